@@ -0,0 +1,120 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.benchmark;
+
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.wildAnimals.Death.DeathSystem;
+import org.terasology.wildAnimals.component.WildAnimalComponent;
+import org.terasology.wildAnimals.headless.SyntheticTerrain;
+import org.terasology.wildAnimals.headless.WildlifeSimulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kills a burst of deer near the player, and destroys them once their death animation has ended, for 10, 1k and 10k
+ * dying animals.
+ * <p>
+ * Every invocation measures one whole burst on new animals, which are created and killed outside the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeathBenchmark {
+    /**
+     * Longer than any death animation of the test deer.
+     */
+    private static final long ANIMATION_END_MS = 10_000;
+
+    @Param({"10", "1000", "10000"})
+    public int dying;
+
+    private WildlifeSimulation simulation;
+    private DeathSystem deathSystem;
+    private Prefab deer;
+    private final List<EntityRef> animals = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WildlifeSimulation.Settings settings = new WildlifeSimulation.Settings();
+        settings.viewDistance = 1;
+        simulation = new WildlifeSimulation(settings);
+        simulation.start(WildlifeSimulation.Scenario.IDLE);
+        deathSystem = simulation.get(DeathSystem.class);
+        deer = simulation.getPrefabs().get(WildlifeSimulation.DEER);
+        // lets the LOD system collect the player, so the clients nearby are notified of the deaths
+        simulation.tick();
+    }
+
+    @Setup(Level.Invocation)
+    public void createAnimals() {
+        animals.clear();
+        Vector3f position = new Vector3f();
+        Quaternionf rotation = new Quaternionf();
+        for (int i = 0; i < dying; i++) {
+            position.set(i % 32, SyntheticTerrain.BASE_HEIGHT + 1, i / 32 % 32);
+            animals.add(simulation.getEntities().create(deer, position, rotation));
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void removeAnimals() {
+        simulation.getClock().advance(ANIMATION_END_MS);
+        deathSystem.update(simulation.getClock().getDelta());
+        for (EntityRef animal : simulation.getEntities().getEntitiesWith(WildAnimalComponent.class)) {
+            animal.destroy();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.stop();
+    }
+
+    /**
+     * Sends the {@code BeforeDestroyEvent} to every animal, which the {@link DeathSystem} answers by starting the
+     * death animation.
+     */
+    @Benchmark
+    public int onDeathBurst() {
+        for (EntityRef animal : animals) {
+            simulation.kill(animal);
+        }
+        return deathSystem.getPendingDeathCount();
+    }
+
+    /**
+     * Destroys all dying animals in one update of the {@link DeathSystem}.
+     */
+    @Benchmark
+    public int updateAfterBurst(DyingAnimals dyingAnimals) {
+        deathSystem.update(simulation.getClock().getDelta());
+        return deathSystem.getPendingDeathCount();
+    }
+
+    /**
+     * Kills the animals of the benchmark and lets their death animation end before {@link #updateAfterBurst} runs.
+     */
+    @State(Scope.Benchmark)
+    public static class DyingAnimals {
+        @Setup(Level.Invocation)
+        public void kill(DeathBenchmark benchmark) {
+            benchmark.onDeathBurst();
+            benchmark.simulation.getClock().advance(ANIMATION_END_MS);
+        }
+    }
+}
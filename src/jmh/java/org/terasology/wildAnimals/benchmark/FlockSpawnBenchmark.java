@@ -0,0 +1,87 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.benchmark;
+
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.wildAnimals.AnimalSpawnConfig;
+import org.terasology.wildAnimals.component.WildAnimalComponent;
+import org.terasology.wildAnimals.headless.SyntheticTerrain;
+import org.terasology.wildAnimals.headless.WildlifeSimulation;
+import org.terasology.wildAnimals.spawn.SpawnSiteIndexSystem;
+import org.terasology.wildAnimals.spawn.SpawnSites;
+import org.terasology.wildAnimals.species.SpeciesRegistry;
+import org.terasology.wildAnimals.system.WildAnimalsSpawnSystem;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queues a flock of deer on the spawn sites of a flat chunk and spawns all of it in one update of the
+ * {@link WildAnimalsSpawnSystem}, including creating the animals and joining them to a flock.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlockSpawnBenchmark {
+    private static final Vector3ic CHUNK_POS = new Vector3i(0, 0, 0);
+
+    private WildlifeSimulation simulation;
+    private WildAnimalsSpawnSystem spawnSystem;
+    private Prefab deer;
+    private SpawnSites sites;
+    private long flocks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WildlifeSimulation.Settings settings = new WildlifeSimulation.Settings();
+        settings.terrain = SyntheticTerrain.Kind.FLAT;
+        settings.viewDistance = 0;
+        simulation = new WildlifeSimulation(settings);
+        AnimalSpawnConfig config = new AnimalSpawnConfig();
+        // only the flocks queued here are spawned, all at once and whatever the load of the machine
+        config.spawnChanceInPercent = 0;
+        config.maxAnimalsPerRegion = Integer.MAX_VALUE;
+        config.maxSpawnsPerTick = Integer.MAX_VALUE;
+        config.maxSpawnTimePerTickMs = Float.MAX_VALUE;
+        config.minSpawnRateScale = 1;
+        spawnSystem = simulation.get(WildAnimalsSpawnSystem.class);
+        spawnSystem.setConfig(config);
+        simulation.start(WildlifeSimulation.Scenario.IDLE);
+
+        deer = simulation.getPrefabs().get(WildlifeSimulation.DEER);
+        sites = simulation.get(SpawnSiteIndexSystem.class)
+                .getSpawnSites(CHUNK_POS, simulation.get(SpeciesRegistry.class).getSpecies(deer)).copy();
+    }
+
+    @TearDown(Level.Invocation)
+    public void removeFlock() {
+        for (EntityRef animal : simulation.getEntities().getEntitiesWith(WildAnimalComponent.class)) {
+            animal.destroy();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.stop();
+    }
+
+    @Benchmark
+    public int spawnFlock() {
+        SplittableRandom random = spawnSystem.createChunkRandom(CHUNK_POS, ++flocks);
+        spawnSystem.queueFlock(deer, CHUNK_POS, sites.copy(), random);
+        spawnSystem.update(simulation.getClock().getDelta());
+        return spawnSystem.getSpawnQueueDepth();
+    }
+}
@@ -0,0 +1,91 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.benchmark;
+
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.wildAnimals.AnimalGrowthConfig;
+import org.terasology.wildAnimals.component.WildAnimalComponent;
+import org.terasology.wildAnimals.headless.SyntheticTerrain;
+import org.terasology.wildAnimals.headless.WildlifeSimulation;
+import org.terasology.wildAnimals.system.WildAnimalsGrowthSystem;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grows a burst of fawns into deer in one update of the {@link WildAnimalsGrowthSystem}, for 10, 1k and 10k fawns,
+ * e.g. after a chunk full of young animals was loaded long after they were born.
+ * <p>
+ * Every invocation measures one whole burst on new fawns, which are created outside the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GrowthBenchmark {
+    /**
+     * Longer than the growth time of any test fawn.
+     */
+    private static final long GROWN_UP_MS = 10_000;
+
+    @Param({"10", "1000", "10000"})
+    public int fawns;
+
+    private WildlifeSimulation simulation;
+    private WildAnimalsGrowthSystem growthSystem;
+    private Prefab fawn;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WildlifeSimulation.Settings settings = new WildlifeSimulation.Settings();
+        settings.viewDistance = 1;
+        simulation = new WildlifeSimulation(settings);
+        growthSystem = simulation.get(WildAnimalsGrowthSystem.class);
+        AnimalGrowthConfig config = new AnimalGrowthConfig();
+        // the whole burst grows in the measured update
+        config.maxGrowthTransitionsPerTick = Integer.MAX_VALUE;
+        growthSystem.setConfig(config);
+        simulation.start(WildlifeSimulation.Scenario.IDLE);
+        fawn = simulation.getPrefabs().get(WildlifeSimulation.FAWN);
+    }
+
+    @Setup(Level.Invocation)
+    public void createFawns() {
+        Vector3f position = new Vector3f();
+        Quaternionf rotation = new Quaternionf();
+        for (int i = 0; i < fawns; i++) {
+            position.set(i % 32, SyntheticTerrain.BASE_HEIGHT + 1, i / 32 % 32);
+            simulation.getEntities().create(fawn, position, rotation);
+        }
+        simulation.getClock().advance(GROWN_UP_MS);
+    }
+
+    @TearDown(Level.Invocation)
+    public void removeAnimals() {
+        for (EntityRef animal : simulation.getEntities().getEntitiesWith(WildAnimalComponent.class)) {
+            animal.destroy();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.stop();
+    }
+
+    @Benchmark
+    public int growBurst() {
+        growthSystem.update(simulation.getClock().getDelta());
+        return growthSystem.getPendingGrowthCount();
+    }
+}
@@ -0,0 +1,122 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.benchmark;
+
+import com.google.common.collect.Lists;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.behavior.core.Actor;
+import org.terasology.engine.logic.behavior.core.BehaviorState;
+import org.terasology.engine.logic.characters.CharacterHeldItemComponent;
+import org.terasology.engine.registry.CoreRegistry;
+import org.terasology.engine.world.block.BlockManager;
+import org.terasology.engine.world.block.items.BlockItemComponent;
+import org.terasology.module.behaviors.components.FindNearbyPlayersComponent;
+import org.terasology.wildAnimals.actions.CheckLuringItemInUseAction;
+import org.terasology.wildAnimals.component.LureComponent;
+import org.terasology.wildAnimals.component.WildAnimalComponent;
+import org.terasology.wildAnimals.headless.HeadlessEntityManager;
+import org.terasology.wildAnimals.headless.SyntheticTerrain;
+import org.terasology.wildAnimals.headless.WildlifeSimulation;
+import org.terasology.wildAnimals.metrics.WildlifeMetricsSystem;
+import org.terasology.wildAnimals.species.SpeciesRegistry;
+import org.terasology.wildAnimals.system.LureSystem;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the {@code check_luring_item_in_use} behavior node of an animal next to a player holding tall grass, as every
+ * animal near a player does on every behavior tick.
+ * The luring items come from the animal's species, from the defaults for animals without a {@link LureComponent}, or
+ * from a {@link LureComponent} of an entity that is no WildAnimal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LureBenchmark {
+    private static final String LURED_DEER = "WildAnimals:luredDeer";
+    private static final String HELD_ITEM = "CoreAssets:TallGrass1";
+
+    public enum Luring {
+        SPECIES,
+        DEFAULT,
+        COMPONENT
+    }
+
+    @Param({"SPECIES", "DEFAULT", "COMPONENT"})
+    public Luring luring;
+
+    private WildlifeSimulation simulation;
+    private CheckLuringItemInUseAction action;
+    private Actor actor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simulation = new WildlifeSimulation(new WildlifeSimulation.Settings());
+        WildAnimalComponent luredDeer = new WildAnimalComponent();
+        luredDeer.name = "Deer";
+        LureComponent lure = new LureComponent();
+        lure.luringItems.add("CoreAssets:Dandelion");
+        lure.luringItems.add(HELD_ITEM);
+        simulation.getPrefabs().define(LURED_DEER, luredDeer, lure);
+        simulation.start(WildlifeSimulation.Scenario.IDLE);
+
+        // the action looks its systems up in the registry, as behavior nodes are not injected
+        CoreRegistry.put(LureSystem.class, new LureSystem());
+        CoreRegistry.put(SpeciesRegistry.class, simulation.get(SpeciesRegistry.class));
+        CoreRegistry.put(WildlifeMetricsSystem.class, simulation.get(WildlifeMetricsSystem.class));
+
+        HeadlessEntityManager entities = simulation.getEntities();
+        BlockItemComponent heldBlock = new BlockItemComponent();
+        heldBlock.blockFamily = simulation.get(BlockManager.class).getBlockFamily(HELD_ITEM);
+        CharacterHeldItemComponent heldItem = new CharacterHeldItemComponent();
+        heldItem.selectedItem = entities.create(null, Lists.newArrayList(heldBlock));
+        EntityRef character = entities.create(null, Lists.newArrayList(heldItem));
+
+        FindNearbyPlayersComponent nearbyPlayers = new FindNearbyPlayersComponent();
+        nearbyPlayers.closestCharacter = character;
+        Vector3f position = new Vector3f(0, SyntheticTerrain.BASE_HEIGHT + 1, 0);
+        EntityRef animal;
+        switch (luring) {
+            case SPECIES:
+                animal = entities.create(simulation.getPrefabs().get(LURED_DEER), position, new Quaternionf());
+                break;
+            case DEFAULT:
+                animal = entities.create(simulation.getPrefabs().get(WildlifeSimulation.DEER), position,
+                        new Quaternionf());
+                break;
+            default:
+                animal = entities.create(null, Lists.newArrayList(lure));
+                break;
+        }
+        animal.addComponent(nearbyPlayers);
+
+        actor = new Actor(animal);
+        action = new CheckLuringItemInUseAction();
+        action.construct(actor);
+        if (action.modify(actor, BehaviorState.UNDEFINED) != BehaviorState.SUCCESS) {
+            throw new IllegalStateException("The animal should be lured by " + HELD_ITEM);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.stop();
+    }
+
+    @Benchmark
+    public BehaviorState checkLuringItem() {
+        return action.modify(actor, BehaviorState.RUNNING);
+    }
+}
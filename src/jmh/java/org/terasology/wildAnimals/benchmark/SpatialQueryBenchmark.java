@@ -0,0 +1,115 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.benchmark;
+
+import org.joml.Vector3i;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.wildAnimals.spatial.SpatialGrid;
+import org.terasology.wildAnimals.spatial.WildAnimalSpatialIndex;
+import org.terasology.wildAnimals.util.WildlifeRandom;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares finding the animals near a position in the grid of the {@link WildAnimalSpatialIndex} against looking at
+ * every animal, for 1k and 50k animals spread over a square of 4096 blocks, and measures moving an animal in the grid.
+ * <p>
+ * The full scan reads the positions from a plain array, so it is a lower bound of the cost of filtering the result of
+ * {@code EntityManager.getEntitiesWith} by distance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpatialQueryBenchmark {
+    private static final float WORLD_SIZE = 4096;
+    private static final float QUERY_RADIUS = 24;
+    /**
+     * Queries and moves cycle through this many precomputed positions, so the random numbers are not measured.
+     */
+    private static final int POSITIONS = 1024;
+
+    @Param({"1000", "50000"})
+    public int animals;
+
+    private SpatialGrid<Integer> grid;
+    private float[] animalPositions;
+    private float[] queryPositions;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = WildlifeRandom.forChunk(0, new Vector3i(), animals);
+        grid = new SpatialGrid<>(WildAnimalSpatialIndex.CELL_SIZE);
+        animalPositions = randomPositions(random, animals);
+        for (int i = 0; i < animals; i++) {
+            grid.put(i, animalPositions[3 * i], animalPositions[3 * i + 1], animalPositions[3 * i + 2], 0);
+        }
+        queryPositions = randomPositions(random, POSITIONS);
+    }
+
+    @Benchmark
+    public int gridQuery(Blackhole blackhole) {
+        int i = nextPosition();
+        return grid.forEachWithin(queryPositions[i], queryPositions[i + 1], queryPositions[i + 2], QUERY_RADIUS,
+                SpatialGrid.ANY_TAG, blackhole::consume);
+    }
+
+    @Benchmark
+    public int fullScan(Blackhole blackhole) {
+        int i = nextPosition();
+        float x = queryPositions[i];
+        float y = queryPositions[i + 1];
+        float z = queryPositions[i + 2];
+        int found = 0;
+        for (int animal = 0; animal < animals; animal++) {
+            float dx = animalPositions[3 * animal] - x;
+            float dy = animalPositions[3 * animal + 1] - y;
+            float dz = animalPositions[3 * animal + 2] - z;
+            if (dx * dx + dy * dy + dz * dz <= QUERY_RADIUS * QUERY_RADIUS) {
+                blackhole.consume(animal);
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Moves an animal by up to a block, as the spatial index does for walking animals, which mostly stays within a
+     * cell.
+     */
+    @Benchmark
+    public boolean moveAnimal() {
+        int i = nextPosition();
+        int animal = (i / 3) % animals;
+        return grid.move(animal,
+                animalPositions[3 * animal] + queryPositions[i] / WORLD_SIZE,
+                animalPositions[3 * animal + 1],
+                animalPositions[3 * animal + 2] + queryPositions[i + 2] / WORLD_SIZE);
+    }
+
+    private int nextPosition() {
+        next = (next + 1) % POSITIONS;
+        return 3 * next;
+    }
+
+    private static float[] randomPositions(SplittableRandom random, int count) {
+        float[] positions = new float[3 * count];
+        for (int i = 0; i < count; i++) {
+            positions[3 * i] = (float) (random.nextDouble() * WORLD_SIZE);
+            positions[3 * i + 1] = (float) (random.nextDouble() * Chunks.SIZE_Y);
+            positions[3 * i + 2] = (float) (random.nextDouble() * WORLD_SIZE);
+        }
+        return positions;
+    }
+}
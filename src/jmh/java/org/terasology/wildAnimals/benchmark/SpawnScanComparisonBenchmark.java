@@ -0,0 +1,179 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.benchmark;
+
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.block.BlockManager;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.wildAnimals.headless.SyntheticTerrain;
+import org.terasology.wildAnimals.headless.WildlifeSimulation;
+import org.terasology.wildAnimals.spawn.ChunkSnapshot;
+import org.terasology.wildAnimals.spawn.SpawnRules;
+import org.terasology.wildAnimals.spawn.SpawnSiteScanner;
+import org.terasology.wildAnimals.spawn.SpawnSites;
+import org.terasology.wildAnimals.system.WildAnimalsSpawnSystem;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the search for spawn sites in a generated chunk before and after the column scan of the
+ * {@link SpawnSiteScanner}, on flat, hilly and cave-heavy terrain.
+ * <p>
+ * Before, every block of the chunk was checked by a {@code Function<Vector3i, Boolean>}, which looked up the block
+ * below, at and above the position in the world, allocating two positions per block and one per site found.
+ * Now the chunk is copied into a {@link ChunkSnapshot} and scanned column by column for the spawn rules of all species.
+ * <p>
+ * Both read from the same in-memory world, whose lookups cost about what those of the engine's world provider cost: a
+ * hash map lookup of the chunk, then an array read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpawnScanComparisonBenchmark {
+    private static final Vector3ic CHUNK_POS = new Vector3i(0, 0, 0);
+
+    @Param({"FLAT", "HILLY", "CAVES"})
+    public SyntheticTerrain.Kind terrain;
+
+    private WildlifeSimulation simulation;
+    private final Map<Vector3ic, Block[]> chunks = new HashMap<>();
+    private Function<Vector3i, Boolean> isValidSpawnPosition;
+    private SpawnRules rules;
+    private SpawnSites[] sites;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WildlifeSimulation.Settings settings = new WildlifeSimulation.Settings();
+        settings.terrain = terrain;
+        settings.viewDistance = 0;
+        simulation = new WildlifeSimulation(settings);
+        simulation.start(WildlifeSimulation.Scenario.IDLE);
+        rules = simulation.get(WildAnimalsSpawnSystem.class).getSpawnRules();
+        sites = SpawnSiteScanner.createBuffers(rules);
+
+        // the chunk and its neighbours above and below
+        SyntheticTerrain synthetic = simulation.getWorld().getTerrain();
+        for (int y = -1; y <= 1; y++) {
+            Vector3i chunkPos = new Vector3i(CHUNK_POS.x(), CHUNK_POS.y() + y, CHUNK_POS.z());
+            Block[] blocks = new Block[Chunks.SIZE_X * Chunks.SIZE_Y * Chunks.SIZE_Z];
+            for (int by = 0; by < Chunks.SIZE_Y; by++) {
+                for (int bz = 0; bz < Chunks.SIZE_Z; bz++) {
+                    for (int bx = 0; bx < Chunks.SIZE_X; bx++) {
+                        blocks[chunkIndex(bx, by, bz)] = synthetic.getBlock(chunkPos.x * Chunks.SIZE_X + bx,
+                                chunkPos.y * Chunks.SIZE_Y + by, chunkPos.z * Chunks.SIZE_Z + bz);
+                    }
+                }
+            }
+            chunks.put(chunkPos, blocks);
+        }
+
+        // the default spawn condition of the spawn system before the column scan
+        BlockManager blockManager = simulation.get(BlockManager.class);
+        Block grassBlock = blockManager.getBlock("CoreAssets:Grass");
+        Block airBlock = blockManager.getBlock(BlockManager.AIR_ID);
+        isValidSpawnPosition = pos -> {
+            Vector3i below = new Vector3i(pos.x, pos.y - 1, pos.z);
+            Block blockBelow = getBlock(below);
+            if (!blockBelow.equals(grassBlock)) {
+                return false;
+            }
+            Block blockAtPosition = getBlock(pos);
+            if (!blockAtPosition.isPenetrable()) {
+                return false;
+            }
+
+            Vector3i above = new Vector3i(pos.x, pos.y + 1, pos.z);
+            Block blockAbove = getBlock(above);
+            return blockAbove.equals(airBlock);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.stop();
+    }
+
+    /**
+     * The search of the spawn system before the column scan.
+     */
+    @Benchmark
+    public List<Vector3i> perBlockLookup() {
+        Vector3i worldPos = new Vector3i(CHUNK_POS);
+        worldPos.mul(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z);
+        List<Vector3i> foundPositions = new ArrayList<>();
+        Vector3i blockPos = new Vector3i();
+        for (int y = Chunks.SIZE_Y - 1; y >= 0; y--) {
+            for (int z = 0; z < Chunks.SIZE_Z; z++) {
+                for (int x = 0; x < Chunks.SIZE_X; x++) {
+                    blockPos.set(x + worldPos.x, y + worldPos.y, z + worldPos.z);
+                    if (isValidSpawnPosition.apply(blockPos)) {
+                        foundPositions.add(new Vector3i(blockPos));
+                    }
+                }
+            }
+        }
+        return foundPositions;
+    }
+
+    /**
+     * Copies the chunk into a snapshot as {@link ChunkSnapshot#of} does on the main thread, then scans it.
+     */
+    @Benchmark
+    public SpawnSites[] columnScan() {
+        Block[] terrainBlocks = new Block[ChunkSnapshot.terrainSize()];
+        Block[] chunk = chunks.get(CHUNK_POS);
+        int worldX = CHUNK_POS.x() * Chunks.SIZE_X;
+        int worldY = CHUNK_POS.y() * Chunks.SIZE_Y;
+        int worldZ = CHUNK_POS.z() * Chunks.SIZE_Z;
+        Vector3i pos = new Vector3i();
+        for (int z = 0; z < Chunks.SIZE_Z; z++) {
+            for (int x = 0; x < Chunks.SIZE_X; x++) {
+                terrainBlocks[ChunkSnapshot.terrainIndex(x, -1, z)] =
+                        getBlock(pos.set(worldX + x, worldY - 1, worldZ + z));
+                terrainBlocks[ChunkSnapshot.terrainIndex(x, Chunks.SIZE_Y, z)] =
+                        getBlock(pos.set(worldX + x, worldY + Chunks.SIZE_Y, worldZ + z));
+            }
+        }
+        for (int y = 0; y < Chunks.SIZE_Y; y++) {
+            for (int z = 0; z < Chunks.SIZE_Z; z++) {
+                for (int x = 0; x < Chunks.SIZE_X; x++) {
+                    terrainBlocks[ChunkSnapshot.terrainIndex(x, y, z)] = chunk[chunkIndex(x, y, z)];
+                }
+            }
+        }
+        SpawnSiteScanner.scan(ChunkSnapshot.of(CHUNK_POS, terrainBlocks), rules, sites);
+        return sites;
+    }
+
+    /**
+     * Looks a block up as the world provider does, through the chunk it is in.
+     */
+    private Block getBlock(Vector3ic pos) {
+        Vector3i chunkPos = new Vector3i(Math.floorDiv(pos.x(), Chunks.SIZE_X), Math.floorDiv(pos.y(), Chunks.SIZE_Y),
+                Math.floorDiv(pos.z(), Chunks.SIZE_Z));
+        Block[] chunk = chunks.get(chunkPos);
+        return chunk[chunkIndex(Math.floorMod(pos.x(), Chunks.SIZE_X), Math.floorMod(pos.y(), Chunks.SIZE_Y),
+                Math.floorMod(pos.z(), Chunks.SIZE_Z))];
+    }
+
+    private static int chunkIndex(int x, int y, int z) {
+        return x + Chunks.SIZE_X * (z + Chunks.SIZE_Z * y);
+    }
+}
@@ -0,0 +1,66 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.benchmark;
+
+import org.joml.Vector3i;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.terasology.wildAnimals.headless.SyntheticTerrain;
+import org.terasology.wildAnimals.headless.WildlifeSimulation;
+import org.terasology.wildAnimals.spawn.ChunkSnapshot;
+import org.terasology.wildAnimals.spawn.SpawnRules;
+import org.terasology.wildAnimals.spawn.SpawnSiteScanner;
+import org.terasology.wildAnimals.spawn.SpawnSites;
+import org.terasology.wildAnimals.system.WildAnimalsSpawnSystem;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Searches a generated chunk for the spawn sites of all spawnable species, as the {@link WildAnimalsSpawnSystem} does
+ * for every chunk generated, on flat, hilly and cave-heavy terrain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpawnSiteScanBenchmark {
+
+    @Param({"FLAT", "HILLY", "CAVES"})
+    public SyntheticTerrain.Kind terrain;
+
+    private WildlifeSimulation simulation;
+    private ChunkSnapshot snapshot;
+    private SpawnRules rules;
+    private SpawnSites[] sites;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WildlifeSimulation.Settings settings = new WildlifeSimulation.Settings();
+        settings.terrain = terrain;
+        settings.viewDistance = 0;
+        simulation = new WildlifeSimulation(settings);
+        simulation.start(WildlifeSimulation.Scenario.IDLE);
+        Vector3i chunkPos = new Vector3i(1, 0, 1);
+        snapshot = ChunkSnapshot.of(chunkPos, simulation.getWorld().getTerrain().generate(chunkPos));
+        rules = simulation.get(WildAnimalsSpawnSystem.class).getSpawnRules();
+        sites = SpawnSiteScanner.createBuffers(rules);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.stop();
+    }
+
+    @Benchmark
+    public SpawnSites[] scanChunk() {
+        SpawnSiteScanner.scan(snapshot, rules, sites);
+        return sites;
+    }
+}
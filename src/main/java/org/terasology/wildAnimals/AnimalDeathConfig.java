@@ -0,0 +1,11 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals;
+
+public class AnimalDeathConfig {
+    /**
+     * The maximum distance between a player and a dying animal for the player's client to be sent the death
+     * animation. Clients farther away only see the animal being removed.
+     */
+    public float deathEventDistance = 96;
+}
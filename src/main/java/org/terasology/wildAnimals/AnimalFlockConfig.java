@@ -0,0 +1,26 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals;
+
+public class AnimalFlockConfig {
+    /**
+     * The number of flocks whose steering is updated per tick.
+     */
+    public int flocksPerTick = 16;
+    /**
+     * Flock members keep following their leader until they are this many blocks close to it.
+     */
+    public float followDistance = 4;
+    /**
+     * Flock members move apart when they are closer than this many blocks to another animal.
+     */
+    public float separationDistance = 2;
+    /**
+     * How strongly flock members are pulled towards the center of their flock.
+     */
+    public float cohesionWeight = 0.2f;
+    /**
+     * The behavior tree run by flock members other than the leader.
+     */
+    public String memberBehavior = "WildAnimals:flockMember";
+}
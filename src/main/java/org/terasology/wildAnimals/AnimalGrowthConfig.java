@@ -0,0 +1,11 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals;
+
+public class AnimalGrowthConfig {
+    /**
+     * The maximum number of animals growing into their next stage per tick. Animals beyond that grow on the
+     * following ticks.
+     */
+    public int maxGrowthTransitionsPerTick = 16;
+}
@@ -0,0 +1,32 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals;
+
+public class AnimalLodConfig {
+    /**
+     * Animals further than this many blocks from every player run the reduced behavior tree.
+     */
+    public float reducedDistance = 48;
+    /**
+     * Animals further than this many blocks from every player have their behavior suspended.
+     */
+    public float suspendedDistance = 96;
+    /**
+     * Animals further than this many blocks from every player hibernate, being stored with their chunk instead of
+     * staying entities. Zero or less turns hibernation off.
+     */
+    public float hibernateDistance = 160;
+    /**
+     * An animal only changes its tier once it is this many blocks past the tier's distance, so animals moving along
+     * a boundary do not keep switching.
+     */
+    public float hysteresis = 8;
+    /**
+     * The behavior tree run by animals in the reduced tier.
+     */
+    public String reducedBehavior = "WildAnimals:still";
+    /**
+     * The number of animals whose tier is checked per tick.
+     */
+    public int animalsPerTick = 64;
+}
@@ -0,0 +1,15 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals;
+
+public class AnimalMetricsConfig {
+    /**
+     * The number of seconds between two metrics reports written to the log. Zero turns the log line off.
+     */
+    public float logIntervalSeconds = 0;
+    /**
+     * Whether the log line is written as JSON, see
+     * {@link org.terasology.wildAnimals.metrics.WildlifeMetricsSystem#toJson()}.
+     */
+    public boolean logAsJson;
+}
@@ -0,0 +1,23 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals;
+
+public class AnimalRepopulationConfig {
+    /**
+     * Regions with fewer WildAnimals than this get new flocks. Zero, the default, turns repopulation off, so animals
+     * only appear when chunks are generated unless a server opts in, e.g. with 6.
+     */
+    public int targetAnimalsPerRegion = 0;
+    /**
+     * Flocks are only added in chunks at least this many blocks away from every player, so no one sees them appear.
+     */
+    public float minPlayerDistance = 64;
+    /**
+     * The number of chunks checked for a population deficit per tick.
+     */
+    public int chunksCheckedPerTick = 4;
+    /**
+     * The minimum time in seconds between two flocks added by repopulation.
+     */
+    public float secondsBetweenFlocks = 20;
+}
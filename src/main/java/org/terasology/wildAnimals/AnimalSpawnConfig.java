@@ -2,9 +2,64 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.wildAnimals;
 
+import org.terasology.wildAnimals.system.WildAnimalsPopulationSystem;
+
+import java.util.HashMap;
+import java.util.Map;
+
 public class AnimalSpawnConfig {
     public int minGroundPerFlockAnimal = 10;
     public int minFlockSize = 2;
     public int maxFlockSize = 5;
     public int spawnChanceInPercent = 2;
+    /**
+     * The maximum number of animals created from the spawn queue per tick. Scaled down under load, down to less than
+     * one per tick, see {@link #minSpawnRateScale}.
+     */
+    public int maxSpawnsPerTick = 4;
+    /**
+     * The time in milliseconds the spawn queue may use per tick. Once an animal is due, it is spawned even if it takes
+     * longer.
+     */
+    public float maxSpawnTimePerTickMs = 2;
+    /**
+     * The number of worker threads searching generated chunks for spawn sites. With 0 the search runs on the main
+     * thread while handling the chunk generated event. Spawns are the same no matter how many threads are used.
+     */
+    public int spawnScanThreads = 0;
+    /**
+     * The maximum number of WildAnimals in one region of {@link WildAnimalsPopulationSystem#REGION_SIZE_IN_CHUNKS}
+     * by {@link WildAnimalsPopulationSystem#REGION_SIZE_IN_CHUNKS} chunks. Flocks that would exceed it are made
+     * smaller, or not spawned if they would be smaller than {@link #minFlockSize}.
+     */
+    public int maxAnimalsPerRegion = 12;
+    /**
+     * The maximum number of WildAnimals of a species in the whole world, by the URN of the species' prefab, e.g.
+     * {@code WildAnimals:deer}. Species not listed here are only limited per region.
+     */
+    public Map<String, Integer> maxAnimalsPerSpecies = new HashMap<>();
+    /**
+     * The time in milliseconds the WildAnimals systems may work on the main thread per tick, above which spawning is
+     * scaled down, see {@link org.terasology.wildAnimals.spawn.SpawnRateController}. Zero or less ignores the tick
+     * work.
+     */
+    public float tickWorkBudgetMs = 5;
+    /**
+     * The number of WildAnimals running their full behavior above which spawning is scaled down. Zero or less
+     * ignores the behavior cost.
+     */
+    public int maxFullDetailAnimals = 500;
+    /**
+     * The lowest factor the per-tick spawn budget is scaled by under load.
+     * <p>
+     * Only the rate at which queued flocks are spawned is scaled, i.e. {@link #maxSpawnsPerTick} and
+     * {@link #maxSpawnTimePerTickMs}. Which chunks get a flock and how large it may be are decided by the world seed
+     * alone, see {@link #spawnChanceInPercent} and {@link #maxFlockSize}, so load delays spawning rather than thinning
+     * it out.
+     */
+    public float minSpawnRateScale = 0.1f;
+    /**
+     * The highest factor the per-tick spawn budget is scaled by with headroom.
+     */
+    public float maxSpawnRateScale = 1;
 }
@@ -0,0 +1,32 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.Death;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.network.OwnerEvent;
+import org.terasology.gestalt.entitysystem.event.Event;
+
+/**
+ * Tells a client that an animal near its player died, so the client plays the death animation itself instead of
+ * receiving the changed components of the animal.
+ * <p>
+ * Sent by the {@link DeathSystem} to the client entities of the players close enough to see the animal die.
+ */
+@OwnerEvent
+public class AnimalDeathEvent implements Event {
+    private EntityRef animal = EntityRef.NULL;
+
+    public AnimalDeathEvent() {
+    }
+
+    /**
+     * @param animal the animal that died
+     */
+    public AnimalDeathEvent(EntityRef animal) {
+        this.animal = animal;
+    }
+
+    public EntityRef getAnimal() {
+        return animal;
+    }
+}
@@ -0,0 +1,84 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.Death;
+
+import com.google.common.collect.ImmutableList;
+import org.terasology.engine.rendering.assets.animation.MeshAnimation;
+import org.terasology.wildAnimals.species.Species;
+
+import java.util.List;
+
+/**
+ * The death animations of a {@link DieComponent} together with the time it takes to play all of them once.
+ */
+public final class DeathAnimation {
+    private final List<MeshAnimation> animations;
+    private final float duration;
+
+    private DeathAnimation(List<MeshAnimation> animations, float duration) {
+        this.animations = animations;
+        this.duration = duration;
+    }
+
+    public static DeathAnimation of(List<MeshAnimation> animationPool) {
+        float duration = 0;
+        for (MeshAnimation meshAnimation : animationPool) {
+            duration += meshAnimation.getTimePerFrame() * (meshAnimation.getFrameCount() - 1);
+        }
+        return new DeathAnimation(ImmutableList.copyOf(animationPool), duration);
+    }
+
+    /**
+     * Takes the death animation of the animal's species, only computing it for animals without one or with
+     * animations differing from their species'.
+     *
+     * @param species the species of the animal, may be null
+     * @param dieComponent the die component of the animal
+     */
+    public static DeathAnimation of(Species species, DieComponent dieComponent) {
+        DeathAnimation deathAnimation = species != null ? species.getDeathAnimation() : null;
+        if (deathAnimation == null || deathAnimation.isDisposed()
+                || !deathAnimation.matches(dieComponent.animationPool)) {
+            return of(dieComponent.animationPool);
+        }
+        return deathAnimation;
+    }
+
+    public List<MeshAnimation> getAnimations() {
+        return animations;
+    }
+
+    /**
+     * @return the time in seconds it takes to play all animations once
+     */
+    public float getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return true if the given pool holds the very same animations, in the same order
+     */
+    public boolean matches(List<MeshAnimation> animationPool) {
+        if (animationPool.size() != animations.size()) {
+            return false;
+        }
+        for (int i = 0; i < animations.size(); i++) {
+            if (animationPool.get(i) != animations.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if one of the animations has been disposed, e.g. because its asset got reloaded
+     */
+    public boolean isDisposed() {
+        for (MeshAnimation animation : animations) {
+            if (animation.isDisposed()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
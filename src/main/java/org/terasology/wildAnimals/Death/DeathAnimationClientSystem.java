@@ -0,0 +1,44 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.Death;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.network.ClientComponent;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.rendering.logic.SkeletalMeshComponent;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.wildAnimals.species.SpeciesRegistry;
+
+/**
+ * Plays the death animation of animals dying near the local player, as told by an {@link AnimalDeathEvent}.
+ * The animation is resolved from the animal's species on the client, so only the event crosses the network.
+ * <p>
+ * On the host of a listen server the animal is the authoritative one, so the changed mesh is replicated to the
+ * other clients as well. The host is only sent the event for deaths near its own player though, so this happens no
+ * more often than the host sees an animal die.
+ */
+@RegisterSystem(RegisterMode.CLIENT)
+public class DeathAnimationClientSystem extends BaseComponentSystem {
+
+    @In
+    private SpeciesRegistry speciesRegistry;
+
+    @ReceiveEvent(components = ClientComponent.class)
+    public void onAnimalDeath(AnimalDeathEvent event, EntityRef client) {
+        EntityRef animal = event.getAnimal();
+        SkeletalMeshComponent skeletalMeshComponent = animal.getComponent(SkeletalMeshComponent.class);
+        DieComponent dieComponent = animal.getComponent(DieComponent.class);
+        if (skeletalMeshComponent == null || dieComponent == null) {
+            return;
+        }
+        DeathAnimation deathAnimation = DeathAnimation.of(speciesRegistry.getSpecies(animal), dieComponent);
+        skeletalMeshComponent.animation = null;
+        skeletalMeshComponent.animationPool.clear();
+        skeletalMeshComponent.animationPool.addAll(deathAnimation.getAnimations());
+        skeletalMeshComponent.loop = false;
+        animal.saveComponent(skeletalMeshComponent);
+    }
+}
@@ -2,12 +2,15 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.wildAnimals.Death;
 
+import org.joml.Vector3f;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.engine.core.Time;
-import org.terasology.engine.entitySystem.entity.EntityManager;
 import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
 import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnAddedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
 import org.terasology.engine.entitySystem.event.EventPriority;
 import org.terasology.engine.entitySystem.event.Priority;
 import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
@@ -18,77 +21,190 @@ import org.terasology.engine.logic.behavior.BehaviorComponent;
 import org.terasology.engine.logic.characters.CharacterMovementComponent;
 import org.terasology.engine.logic.health.BeforeDestroyEvent;
 import org.terasology.engine.logic.health.DoDestroyEvent;
+import org.terasology.engine.logic.location.LocationComponent;
 import org.terasology.engine.registry.In;
-import org.terasology.engine.rendering.assets.animation.MeshAnimation;
 import org.terasology.engine.rendering.logic.SkeletalMeshComponent;
 import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.wildAnimals.AnimalDeathConfig;
 import org.terasology.wildAnimals.component.WildAnimalComponent;
+import org.terasology.wildAnimals.lod.WildAnimalLodSystem;
+import org.terasology.wildAnimals.metrics.Counter;
+import org.terasology.wildAnimals.metrics.Histogram;
+import org.terasology.wildAnimals.metrics.Timer;
+import org.terasology.wildAnimals.metrics.WildlifeMetricsSystem;
+import org.terasology.wildAnimals.species.SpeciesRegistry;
+import org.terasology.wildAnimals.util.EntitySchedule;
 
 @RegisterSystem(RegisterMode.AUTHORITY)
 public class DeathSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
 
     private static final Logger logger = LoggerFactory.getLogger(DeathSystem.class);
 
-    @In
-    EntityManager entityManager;
+    private AnimalDeathConfig config;
+
     @In
     private Time time;
 
+    @In
+    private SpeciesRegistry speciesRegistry;
+
+    @In
+    private WildAnimalLodSystem lodSystem;
+
+    @In
+    private WildlifeMetricsSystem metrics;
+
+    /**
+     * Entities with a DestroyAtAnimationEndComponent, keyed on their deathTime.
+     */
+    private final EntitySchedule pendingDeaths = new EntitySchedule();
+
+    private Timer updateTime;
+    private Histogram updateIterations;
+    private Counter deaths;
+    private Counter deathEvents;
+
+    private final Vector3f animalPosition = new Vector3f();
+
+    @Override
+    public void initialise() {
+        if (config == null) {
+            config = new AnimalDeathConfig();
+        }
+        updateTime = metrics.timer("death.update.time");
+        updateIterations = metrics.histogram("death.update.iterations");
+        deaths = metrics.counter("death.deaths");
+        deathEvents = metrics.counter("death.events");
+        metrics.gauge("death.pending", this::getPendingDeathCount);
+    }
+
+    @Override
+    public void shutdown() {
+        pendingDeaths.clear();
+    }
+
+    public void setConfig(AnimalDeathConfig configuration) {
+        config = configuration;
+    }
+
     /**
-     * On every update, checks for entities which have DestroyAtAnimationEndComponent,
-     * finds them and destroys them.
+     * On every update, destroys the entities whose DestroyAtAnimationEndComponent's deathTime has passed.
+     * Only the entities that are due are touched.
      * Sending the DoDestroyEvent is essential for the DropGrammar system to handle
      * item drops specified in the animal's DieComponent
      */
     @Override
     public void update(float delta) {
+        long start = System.nanoTime();
         long currentTime = time.getGameTimeInMs();
-        for (EntityRef entity : entityManager.getEntitiesWith(DestroyAtAnimationEndComponent.class)) {
+        int iterations = 0;
+        EntityRef entity;
+        while ((entity = pendingDeaths.pollDue(currentTime)) != null) {
+            iterations++;
             DestroyAtAnimationEndComponent destroyAtAnimationEndComponent = entity.getComponent(DestroyAtAnimationEndComponent.class);
-            if (destroyAtAnimationEndComponent.deathTime < currentTime) {
-                entity.send(new DoDestroyEvent(destroyAtAnimationEndComponent.getInstigator(), destroyAtAnimationEndComponent.getDirectCause(), destroyAtAnimationEndComponent.getDamageType()));
-                entity.destroy();
+            if (destroyAtAnimationEndComponent == null) {
+                continue;
             }
+            entity.send(new DoDestroyEvent(destroyAtAnimationEndComponent.getInstigator(), destroyAtAnimationEndComponent.getDirectCause(), destroyAtAnimationEndComponent.getDamageType()));
+            entity.destroy();
         }
+        updateTime.recordSince(start);
+        updateIterations.record(iterations);
+        metrics.recordTickWork(start);
     }
 
     /**
-     * Compute and save deathTime whenever a DestroyAtAnimationEndComponent is added
+     * @return the number of dying entities waiting for their death animation to end
+     */
+    public int getPendingDeathCount() {
+        return pendingDeaths.size();
+    }
+
+    /**
+     * Compute and save deathTime whenever a DestroyAtAnimationEndComponent is added without one
      */
     @ReceiveEvent
     public void addedDestroyAtAnimationEndComponent(OnAddedComponent event, EntityRef entityRef, DestroyAtAnimationEndComponent destroyAtAnimationEndComponent) {
-        destroyAtAnimationEndComponent.deathTime = time.getGameTimeInMs() + (long) (destroyAtAnimationEndComponent.lifespan * 1000);
+        if (destroyAtAnimationEndComponent.deathTime != 0) {
+            return;
+        }
+        destroyAtAnimationEndComponent.deathTime = computeDeathTime(destroyAtAnimationEndComponent.lifespan);
         entityRef.saveComponent(destroyAtAnimationEndComponent);
     }
 
+    /**
+     * Schedules the destruction of the entity, both when the component is added and when it is loaded.
+     */
+    @ReceiveEvent
+    public void activatedDestroyAtAnimationEndComponent(OnActivatedComponent event, EntityRef entityRef, DestroyAtAnimationEndComponent destroyAtAnimationEndComponent) {
+        pendingDeaths.schedule(entityRef, destroyAtAnimationEndComponent.deathTime);
+    }
+
+    /**
+     * Reschedules the destruction of the entity in case its deathTime was changed.
+     */
+    @ReceiveEvent
+    public void changedDestroyAtAnimationEndComponent(OnChangedComponent event, EntityRef entityRef, DestroyAtAnimationEndComponent destroyAtAnimationEndComponent) {
+        pendingDeaths.schedule(entityRef, destroyAtAnimationEndComponent.deathTime);
+    }
+
+    /**
+     * Forgets about the entity when the component is removed, or the entity is destroyed or unloaded.
+     */
+    @ReceiveEvent
+    public void deactivatedDestroyAtAnimationEndComponent(BeforeDeactivateComponent event, EntityRef entityRef, DestroyAtAnimationEndComponent destroyAtAnimationEndComponent) {
+        pendingDeaths.cancel(entityRef);
+    }
+
     /**
      * Receives and consumes the BeforeDestroyEvent.
-     * Removes extra components from the animal entity and updates skeletalMesh to play dying animation
+     * Removes extra components from the animal entity and tells the clients of nearby players to play the dying
+     * animation, see {@link AnimalDeathEvent}. Clients farther away only see the animal being removed.
      * Triggers the entity to self destruct after animation ends by attaching DestroyAtAnimationEndComponent
      */
     @Priority(EventPriority.PRIORITY_HIGH)
     @ReceiveEvent(components = {WildAnimalComponent.class, DieComponent.class})
     public void onDeath(BeforeDestroyEvent event, EntityRef entity, DieComponent dieComponent) {
         event.consume();
+        deaths.increment();
         entity.removeComponent(BehaviorComponent.class);
         entity.removeComponent(CharacterMovementComponent.class);
-        SkeletalMeshComponent skeletalMeshComponent = entity.getComponent(SkeletalMeshComponent.class);
-        if (skeletalMeshComponent == null) {
+        if (!entity.hasComponent(SkeletalMeshComponent.class)) {
             return;
         }
-        // Add fall animation from DieComponent
-        skeletalMeshComponent.animation = null;
-        skeletalMeshComponent.animationPool.clear();
-        skeletalMeshComponent.animationPool.addAll(dieComponent.animationPool);
-        skeletalMeshComponent.loop = false;
-        entity.saveComponent(skeletalMeshComponent);
-        // Find total length of animations
-        float lifespan = 0;
-        for (MeshAnimation meshAnimation : skeletalMeshComponent.animationPool) {
-            lifespan += meshAnimation.getTimePerFrame() * (meshAnimation.getFrameCount() - 1);
-        }
+        DeathAnimation deathAnimation = DeathAnimation.of(speciesRegistry.getSpecies(entity), dieComponent);
         // Trigger entity to self destruct after animations end
+        float lifespan = deathAnimation.getDuration();
         DestroyAtAnimationEndComponent destroyAtAnimationEndComponent = new DestroyAtAnimationEndComponent(lifespan, event.getInstigator(), event.getDirectCause(), event.getDamageType());
+        // Set right away, so adding the component does not need a second save
+        destroyAtAnimationEndComponent.deathTime = computeDeathTime(lifespan);
         entity.addOrSaveComponent(destroyAtAnimationEndComponent);
+        notifyNearbyClients(entity);
     }
+
+    /**
+     * Sends an {@link AnimalDeathEvent} to the clients whose player is within
+     * {@link AnimalDeathConfig#deathEventDistance} of the animal. The player positions are those the
+     * {@link WildAnimalLodSystem} collected this tick, so deaths do not look at every client entity.
+     */
+    private void notifyNearbyClients(EntityRef animal) {
+        LocationComponent animalLocation = animal.getComponent(LocationComponent.class);
+        if (animalLocation == null) {
+            return;
+        }
+        animalLocation.getWorldPosition(animalPosition);
+        float maxDistanceSquared = config.deathEventDistance * config.deathEventDistance;
+        for (int i = 0; i < lodSystem.getPlayerCount(); i++) {
+            EntityRef client = lodSystem.getPlayerClient(i);
+            if (client.exists() && lodSystem.getDistanceSquaredToPlayer(i, animalPosition) <= maxDistanceSquared) {
+                client.send(new AnimalDeathEvent(animal));
+                deathEvents.increment();
+            }
+        }
+    }
+
+    private long computeDeathTime(float lifespan) {
+        return time.getGameTimeInMs() + (long) (lifespan * 1000);
+    }
+
 }
@@ -4,15 +4,16 @@ package org.terasology.wildAnimals.Death;
 
 import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.entitySystem.prefab.Prefab;
-import org.terasology.engine.network.Replicate;
 import org.terasology.gestalt.entitysystem.component.Component;
 
+/**
+ * Makes the {@link DeathSystem} destroy the entity once its death animation has been played.
+ * Only used by the authority; clients are told about the death by an {@link AnimalDeathEvent} instead.
+ */
 public class DestroyAtAnimationEndComponent implements Component<DestroyAtAnimationEndComponent> {
 
     // Lifespan in seconds
-    @Replicate
     public float lifespan = 5;
-    @Replicate
     public long deathTime;
 
     public EntityRef instigator;
@@ -4,15 +4,24 @@
 package org.terasology.wildAnimals.actions;
 
 
+import com.google.common.collect.ImmutableList;
 import org.terasology.module.behaviors.components.FindNearbyPlayersComponent;
-import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.logic.behavior.BehaviorAction;
 import org.terasology.engine.logic.behavior.core.Actor;
 import org.terasology.engine.logic.behavior.core.BaseAction;
 import org.terasology.engine.logic.behavior.core.BehaviorState;
-import org.terasology.engine.logic.characters.CharacterHeldItemComponent;
+import org.terasology.engine.registry.CoreRegistry;
+import org.terasology.engine.registry.In;
 import org.terasology.engine.world.block.BlockUri;
-import org.terasology.engine.world.block.items.BlockItemComponent;
+import org.terasology.wildAnimals.component.LureComponent;
+import org.terasology.wildAnimals.metrics.Counter;
+import org.terasology.wildAnimals.metrics.WildlifeMetricsSystem;
+import org.terasology.wildAnimals.species.Species;
+import org.terasology.wildAnimals.species.SpeciesRegistry;
+import org.terasology.wildAnimals.system.LureSystem;
+
+import java.util.List;
+import java.util.Set;
 
 /**
  * Behavior node that checks if the current held item can be used to lure
@@ -21,27 +30,71 @@ import org.terasology.engine.world.block.items.BlockItemComponent;
 @BehaviorAction(name = "check_luring_item_in_use")
 public class CheckLuringItemInUseAction extends BaseAction {
 
-    static final String[] LURING_ITEMS = {
+    /**
+     * Items luring animals without a {@link LureComponent}.
+     */
+    static final List<String> LURING_ITEMS = ImmutableList.of(
             "CoreAssets:TallGrass1",
             "CoreAssets:TallGrass2",
             "CoreAssets:TallGrass3",
             "CoreAssets:Lavender",
             "CoreAssets:Dandelion"
-    };
+    );
+
+
+    @In
+    private LureSystem lureSystem;
+
+    @In
+    private SpeciesRegistry speciesRegistry;
+
+    @In
+    private WildlifeMetricsSystem metrics;
+
+    private Counter lureChecks;
+
+    @Override
+    public void construct(Actor actor) {
+        // TODO: Temporary fix for injection malfunction in actions, remove as soon as injection malfunction in actions is fixed.
+        if (lureSystem == null) {
+            lureSystem = CoreRegistry.get(LureSystem.class);
+        }
+        if (speciesRegistry == null) {
+            speciesRegistry = CoreRegistry.get(SpeciesRegistry.class);
+        }
+        if (metrics == null) {
+            metrics = CoreRegistry.get(WildlifeMetricsSystem.class);
+        }
+        if (metrics != null) {
+            lureChecks = metrics.counter("lure.checks");
+        }
+    }
 
     @Override
     public BehaviorState modify(Actor actor, BehaviorState behaviorState) {
+        if (lureChecks != null) {
+            lureChecks.increment();
+        }
         FindNearbyPlayersComponent component = actor.getComponent(FindNearbyPlayersComponent.class);
-        EntityRef player = component.closestCharacter;
-        CharacterHeldItemComponent characterHeldItemComponent = player.getComponent(CharacterHeldItemComponent.class);
-        EntityRef heldItem = characterHeldItemComponent.selectedItem;
-        BlockItemComponent blockItemComponent = heldItem.getComponent(BlockItemComponent.class);
-        for (String item : LURING_ITEMS) {
-            if (blockItemComponent != null && blockItemComponent.blockFamily.getURI().equals(new BlockUri(item))) {
-                return BehaviorState.SUCCESS;
-            }
+        if (component == null || component.closestCharacter == null) {
+            return BehaviorState.FAILURE;
+        }
+        BlockUri heldBlock = lureSystem.getHeldBlock(component.closestCharacter);
+        if (heldBlock != null && getLuringItems(actor).contains(heldBlock)) {
+            return BehaviorState.SUCCESS;
         }
         return BehaviorState.FAILURE;
     }
-}
 
+    /**
+     * Takes the luring items resolved for the animal's species, or for its list of luring items if it has none.
+     */
+    private Set<BlockUri> getLuringItems(Actor actor) {
+        Species species = speciesRegistry.getSpecies(actor.getEntity());
+        if (species != null && species.getLuringItems() != null) {
+            return species.getLuringItems();
+        }
+        LureComponent lureComponent = actor.getComponent(LureComponent.class);
+        return lureSystem.getLuringItems(lureComponent != null ? lureComponent.luringItems : LURING_ITEMS);
+    }
+}
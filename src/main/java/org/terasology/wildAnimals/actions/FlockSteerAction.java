@@ -0,0 +1,47 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.actions;
+
+import org.joml.Vector3f;
+import org.joml.Vector3fc;
+import org.terasology.engine.logic.behavior.BehaviorAction;
+import org.terasology.engine.logic.behavior.core.Actor;
+import org.terasology.engine.logic.behavior.core.BaseAction;
+import org.terasology.engine.logic.behavior.core.BehaviorState;
+import org.terasology.engine.registry.CoreRegistry;
+import org.terasology.engine.registry.In;
+import org.terasology.module.behaviors.components.MinionMoveComponent;
+import org.terasology.wildAnimals.flock.WildAnimalsFlockSystem;
+
+/**
+ * Behavior node that sets the move target of a flock member to the spot its flock steers it to.
+ * Fails if the member has nowhere to go.
+ */
+@BehaviorAction(name = "flock_steer")
+public class FlockSteerAction extends BaseAction {
+
+    @In
+    private WildAnimalsFlockSystem flockSystem;
+
+    @Override
+    public void construct(Actor actor) {
+        if (flockSystem == null) {
+            flockSystem = CoreRegistry.get(WildAnimalsFlockSystem.class);
+        }
+    }
+
+    @Override
+    public BehaviorState modify(Actor actor, BehaviorState behaviorState) {
+        Vector3fc target = flockSystem.getSteeringTarget(actor.getEntity());
+        MinionMoveComponent moveComponent = actor.getComponent(MinionMoveComponent.class);
+        if (target == null || moveComponent == null) {
+            return BehaviorState.FAILURE;
+        }
+        if (moveComponent.target == null) {
+            moveComponent.target = new Vector3f();
+        }
+        moveComponent.target.set(target);
+        actor.save(moveComponent);
+        return BehaviorState.SUCCESS;
+    }
+}
@@ -0,0 +1,26 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.component;
+
+import com.google.common.collect.Lists;
+import org.terasology.gestalt.entitysystem.component.Component;
+
+import java.util.List;
+
+/**
+ * Lets a WildAnimal be lured by players holding one of the given items.
+ * Used by the {@code check_luring_item_in_use} behavior node; animals without this component are lured by tall grass
+ * and flowers.
+ */
+public class LureComponent implements Component<LureComponent> {
+    /**
+     * URIs of the block families that lure this animal, e.g. "CoreAssets:Dandelion".
+     */
+    public List<String> luringItems = Lists.newArrayList();
+
+    @Override
+    public void copyFrom(LureComponent other) {
+        this.luringItems.clear();
+        this.luringItems.addAll(other.luringItems);
+    }
+}
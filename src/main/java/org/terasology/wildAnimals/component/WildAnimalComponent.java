@@ -2,6 +2,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.wildAnimals.component;
 
+import org.terasology.engine.entitySystem.prefab.Prefab;
 import org.terasology.engine.network.FieldReplicateType;
 import org.terasology.engine.network.Replicate;
 import org.terasology.engine.rendering.assets.texture.TextureRegionAsset;
@@ -21,10 +22,28 @@ public class WildAnimalComponent implements Component<WildAnimalComponent> {
      */
     @Replicate(value = FieldReplicateType.SERVER_TO_CLIENT, initialOnly = true)
     public TextureRegionAsset<?> icon;
+    /**
+     * The prefab of the growth stage this WildAnimal is in, once it grew out of the prefab it was created from.
+     * Null while the animal is still in the stage of its parent prefab.
+     */
+    public Prefab stagePrefab;
+    /**
+     * The id of the animal's species in the SpeciesRegistry, looked up when first needed.
+     * Not saved, as ids depend on the prefabs available.
+     */
+    public transient int speciesId = -1;
+    /**
+     * The seed of the animal's own random streams, drawn from the stream of the chunk it spawned in and kept as it
+     * grows and hibernates, so its random choices do not depend on its entity id. 0 until the animal got one.
+     */
+    public long seed;
 
     @Override
     public void copyFrom(WildAnimalComponent other) {
         this.name = other.name;
         this.icon = other.icon;
+        this.stagePrefab = other.stagePrefab;
+        this.speciesId = other.speciesId;
+        this.seed = other.seed;
     }
 }
@@ -23,10 +23,17 @@ public class WildAnimalGrowthComponent implements Component<WildAnimalGrowthComp
      */
     public String nextStagePrefab;
 
+    /**
+     * The game time in milliseconds at which the animal grows into its next stage.
+     * Picked between the minimum and maximum growth time when the animal enters this stage.
+     */
+    public long growthTime;
+
     @Override
     public void copyFrom(WildAnimalGrowthComponent other) {
         this.minGrowthTime = other.minGrowthTime;
         this.maxGrowthTime = other.maxGrowthTime;
         this.nextStagePrefab = other.nextStagePrefab;
+        this.growthTime = other.growthTime;
     }
 }
@@ -0,0 +1,47 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.component;
+
+import com.google.common.collect.Lists;
+import org.terasology.gestalt.entitysystem.component.Component;
+
+import java.util.List;
+
+/**
+ * Lets WildAnimals of a prefab spawn in flocks in newly generated chunks, and describes where they may spawn.
+ * <p>
+ * A spawn site is a penetrable block standing on one of the {@link #groundBlocks}, with air above it up to the
+ * {@link #clearance}, within the height band.
+ */
+public class WildAnimalSpawnComponent implements Component<WildAnimalSpawnComponent> {
+    /**
+     * How often this prefab is picked compared to the other spawning prefabs. Zero keeps prefabs inheriting the
+     * component from spawning.
+     */
+    public int weight = 1;
+    /**
+     * URIs of the block families the animal may stand on.
+     */
+    public List<String> groundBlocks = Lists.newArrayList("CoreAssets:Grass");
+    /**
+     * The height of the free space the animal needs, in blocks, including the site itself.
+     */
+    public int clearance = 2;
+    /**
+     * The lowest world height of a site.
+     */
+    public int minHeight = Integer.MIN_VALUE;
+    /**
+     * The highest world height of a site.
+     */
+    public int maxHeight = Integer.MAX_VALUE;
+
+    @Override
+    public void copyFrom(WildAnimalSpawnComponent other) {
+        this.weight = other.weight;
+        this.groundBlocks = Lists.newArrayList(other.groundBlocks);
+        this.clearance = other.clearance;
+        this.minHeight = other.minHeight;
+        this.maxHeight = other.maxHeight;
+    }
+}
@@ -0,0 +1,33 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.flock;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.gestalt.entitysystem.component.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The entity of a flock of WildAnimals spawned together.
+ * The leader runs its own behavior tree and decides where the flock goes, the other members steer after it.
+ */
+public class FlockComponent implements Component<FlockComponent> {
+    public EntityRef leader = EntityRef.NULL;
+    /**
+     * All members of the flock, including the leader.
+     */
+    public List<EntityRef> members = new ArrayList<>();
+    /**
+     * The number of members hibernating, which are not in {@link #members} but will rejoin the flock when they wake
+     * up. The flock is kept while any of them hibernate, even if it has no other members.
+     */
+    public int hibernatingMembers;
+
+    @Override
+    public void copyFrom(FlockComponent other) {
+        this.leader = other.leader;
+        this.members = new ArrayList<>(other.members);
+        this.hibernatingMembers = other.hibernatingMembers;
+    }
+}
@@ -0,0 +1,24 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.flock;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.behavior.asset.BehaviorTree;
+import org.terasology.gestalt.entitysystem.component.Component;
+
+/**
+ * Added to WildAnimals belonging to a flock.
+ */
+public class FlockMemberComponent implements Component<FlockMemberComponent> {
+    public EntityRef flock = EntityRef.NULL;
+    /**
+     * The animal's own behavior tree, restored if it becomes the leader. Null for the leader.
+     */
+    public BehaviorTree ownTree;
+
+    @Override
+    public void copyFrom(FlockMemberComponent other) {
+        this.flock = other.flock;
+        this.ownTree = other.ownTree;
+    }
+}
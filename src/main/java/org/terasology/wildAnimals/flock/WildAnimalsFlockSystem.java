@@ -0,0 +1,396 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.flock;
+
+import org.joml.Vector3f;
+import org.joml.Vector3fc;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.entitySystem.entity.EntityManager;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeRemoveComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.logic.behavior.BehaviorComponent;
+import org.terasology.engine.logic.behavior.asset.BehaviorTree;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.engine.utilities.Assets;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.wildAnimals.AnimalFlockConfig;
+import org.terasology.wildAnimals.lod.WildAnimalLodComponent;
+import org.terasology.wildAnimals.metrics.WildlifeMetricsSystem;
+import org.terasology.wildAnimals.spatial.SpatialGrid;
+import org.terasology.wildAnimals.spatial.WildAnimalSpatialIndex;
+import org.terasology.wildAnimals.util.EntityRotation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves flocks of WildAnimals as a whole.
+ * <p>
+ * Only the leader of a flock runs its own behavior tree, searching paths and deciding where to go. The other members
+ * run a cheap tree that walks towards a steering target, which this system works out once per flock from following
+ * the leader, staying close to the flock and keeping apart from the animals around them, which are looked up in the
+ * {@link WildAnimalSpatialIndex}. Members still flee when hit or follow a player luring them, as their tree checks for
+ * that first.
+ * <p>
+ * Members that hibernate keep their place in the flock and rejoin it when they wake up.
+ */
+@Share(value = WildAnimalsFlockSystem.class)
+@RegisterSystem(RegisterMode.AUTHORITY)
+public class WildAnimalsFlockSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+
+    private static final Logger logger = LoggerFactory.getLogger(WildAnimalsFlockSystem.class);
+
+    /**
+     * Members are not sent anywhere if they would have to move less than this many blocks.
+     */
+    private static final float MIN_STEERING_DISTANCE = 0.5f;
+
+    private AnimalFlockConfig config;
+
+    @In
+    private EntityManager entityManager;
+
+    @In
+    private WildAnimalSpatialIndex spatialIndex;
+
+    @In
+    private WildlifeMetricsSystem metrics;
+
+    /**
+     * The loaded members of each flock with at least one loaded member.
+     */
+    private final Map<EntityRef, List<EntityRef>> activeMembers = new HashMap<>();
+    private final EntityRotation flocks = new EntityRotation();
+    private final Map<EntityRef, Vector3f> steeringTargets = new HashMap<>();
+
+    private BehaviorTree memberTree;
+
+    private float[] positions = new float[3 * 8];
+    private final Vector3f position = new Vector3f();
+
+    /**
+     * The member being steered apart from its neighbours, and the steering collected so far, see
+     * {@link #separateFrom(EntityRef, float, float, float)}.
+     */
+    private EntityRef separatingMember = EntityRef.NULL;
+    private float separatingX;
+    private float separatingZ;
+    private float separationX;
+    private float separationZ;
+    private final SpatialGrid.PositionConsumer<EntityRef> separation = this::separateFrom;
+
+    @Override
+    public void initialise() {
+        if (config == null) {
+            config = new AnimalFlockConfig();
+        }
+        resolveMemberTree();
+    }
+
+    @Override
+    public void shutdown() {
+        activeMembers.clear();
+        flocks.clear();
+        steeringTargets.clear();
+    }
+
+    public void setConfig(AnimalFlockConfig configuration) {
+        config = configuration;
+        resolveMemberTree();
+    }
+
+    @Override
+    public void update(float delta) {
+        long start = System.nanoTime();
+        int count = Math.min(config.flocksPerTick, flocks.size());
+        for (int i = 0; i < count; i++) {
+            steer(flocks.next());
+        }
+        metrics.recordTickWork(start);
+    }
+
+    /**
+     * Creates an empty flock, see {@link #join(EntityRef, EntityRef)}.
+     */
+    public EntityRef createFlock() {
+        return entityManager.create(new FlockComponent());
+    }
+
+    /**
+     * Adds an animal to a flock. The first animal to join becomes the leader.
+     */
+    public void join(EntityRef flock, EntityRef animal) {
+        FlockComponent flockComponent = flock.getComponent(FlockComponent.class);
+        if (flockComponent == null || animal.hasComponent(FlockMemberComponent.class)) {
+            return;
+        }
+        FlockMemberComponent memberComponent = new FlockMemberComponent();
+        memberComponent.flock = flock;
+        if (!flockComponent.leader.exists()) {
+            flockComponent.leader = animal;
+        } else if (memberTree != null) {
+            BehaviorComponent behaviorComponent = animal.getComponent(BehaviorComponent.class);
+            if (behaviorComponent != null && behaviorComponent.tree != null) {
+                memberComponent.ownTree = behaviorComponent.tree;
+                setTree(animal, memberTree);
+            }
+        }
+        flockComponent.members.add(animal);
+        flock.saveComponent(flockComponent);
+        animal.addComponent(memberComponent);
+    }
+
+    /**
+     * Keeps the place of an animal about to hibernate in its flock, so it can rejoin the flock when it wakes up, see
+     * {@link #wakeMember(EntityRef, EntityRef)}. The animal itself leaves the flock when it is destroyed.
+     *
+     * @return the flock of the animal, or {@link EntityRef#NULL} if it belongs to none
+     */
+    public EntityRef hibernateMember(EntityRef animal) {
+        FlockMemberComponent memberComponent = animal.getComponent(FlockMemberComponent.class);
+        EntityRef flock = memberComponent != null ? memberComponent.flock : EntityRef.NULL;
+        FlockComponent flockComponent = flock.getComponent(FlockComponent.class);
+        if (flockComponent == null) {
+            return EntityRef.NULL;
+        }
+        flockComponent.hibernatingMembers++;
+        flock.saveComponent(flockComponent);
+        return flock;
+    }
+
+    /**
+     * Adds an animal that woke up back to the flock it hibernated in.
+     *
+     * @param flock the flock returned by {@link #hibernateMember(EntityRef)}
+     * @param animal the animal, or {@link EntityRef#NULL} if it could not be woken up
+     */
+    public void wakeMember(EntityRef flock, EntityRef animal) {
+        FlockComponent flockComponent = flock.getComponent(FlockComponent.class);
+        if (flockComponent == null) {
+            return;
+        }
+        flockComponent.hibernatingMembers = Math.max(0, flockComponent.hibernatingMembers - 1);
+        if (!animal.exists() && flockComponent.members.isEmpty() && flockComponent.hibernatingMembers == 0) {
+            flock.destroy();
+            return;
+        }
+        flock.saveComponent(flockComponent);
+        if (animal.exists()) {
+            join(flock, animal);
+        }
+    }
+
+    /**
+     * @return the spot the flock steers the member to, or null if it should stay where it is
+     */
+    public Vector3fc getSteeringTarget(EntityRef member) {
+        return steeringTargets.get(member);
+    }
+
+    @ReceiveEvent
+    public void onMemberActivated(OnActivatedComponent event, EntityRef entity, FlockMemberComponent memberComponent) {
+        activeMembers.computeIfAbsent(memberComponent.flock, key -> new ArrayList<>()).add(entity);
+        flocks.add(memberComponent.flock);
+
+        // the leader may have died while this member was unloaded
+        FlockComponent flockComponent = memberComponent.flock.getComponent(FlockComponent.class);
+        if (flockComponent != null && entity.equals(flockComponent.leader) && memberComponent.ownTree != null) {
+            promote(entity, memberComponent);
+        }
+    }
+
+    @ReceiveEvent
+    public void onMemberDeactivated(BeforeDeactivateComponent event, EntityRef entity, FlockMemberComponent memberComponent) {
+        steeringTargets.remove(entity);
+        List<EntityRef> members = activeMembers.get(memberComponent.flock);
+        if (members == null) {
+            return;
+        }
+        members.remove(entity);
+        if (members.isEmpty()) {
+            activeMembers.remove(memberComponent.flock);
+            flocks.remove(memberComponent.flock);
+        }
+    }
+
+    /**
+     * Unlike deactivation this also happens when the member is destroyed, not when it is merely unloaded.
+     */
+    @ReceiveEvent
+    public void onMemberRemoved(BeforeRemoveComponent event, EntityRef entity, FlockMemberComponent memberComponent) {
+        EntityRef flock = memberComponent.flock;
+        FlockComponent flockComponent = flock.getComponent(FlockComponent.class);
+        if (flockComponent == null) {
+            return;
+        }
+        flockComponent.members.remove(entity);
+        if (flockComponent.members.isEmpty()) {
+            if (flockComponent.hibernatingMembers == 0) {
+                flock.destroy();
+                return;
+            }
+            // the first member to wake up leads the flock
+            flockComponent.leader = EntityRef.NULL;
+        } else if (entity.equals(flockComponent.leader)) {
+            EntityRef newLeader = flockComponent.members.get(0);
+            flockComponent.leader = newLeader;
+            FlockMemberComponent newLeaderMember = newLeader.getComponent(FlockMemberComponent.class);
+            if (newLeaderMember != null) {
+                promote(newLeader, newLeaderMember);
+            }
+        }
+        flock.saveComponent(flockComponent);
+    }
+
+    /**
+     * Gives the animal its own behavior tree back, so it can lead the flock.
+     */
+    private void promote(EntityRef animal, FlockMemberComponent memberComponent) {
+        if (memberComponent.ownTree == null) {
+            return;
+        }
+        WildAnimalLodComponent lodComponent = animal.getComponent(WildAnimalLodComponent.class);
+        if (lodComponent != null) {
+            // restored by the LOD system once a player comes close
+            lodComponent.fullTree = memberComponent.ownTree;
+            animal.saveComponent(lodComponent);
+        } else {
+            setTree(animal, memberComponent.ownTree);
+        }
+        memberComponent.ownTree = null;
+        animal.saveComponent(memberComponent);
+        steeringTargets.remove(animal);
+    }
+
+    /**
+     * Works out the steering targets of all loaded members of a flock.
+     */
+    private void steer(EntityRef flock) {
+        List<EntityRef> members = activeMembers.get(flock);
+        FlockComponent flockComponent = flock.getComponent(FlockComponent.class);
+        if (members == null || flockComponent == null) {
+            return;
+        }
+        LocationComponent leaderLocation = flockComponent.leader.getComponent(LocationComponent.class);
+        if (leaderLocation == null) {
+            // without a leader to follow the members stay where they are
+            for (EntityRef member : members) {
+                steeringTargets.remove(member);
+            }
+            return;
+        }
+        leaderLocation.getWorldPosition(position);
+        float leaderX = position.x;
+        float leaderZ = position.z;
+
+        int count = members.size();
+        if (positions.length < 3 * count) {
+            positions = Arrays.copyOf(positions, 3 * count);
+        }
+        float centerX = 0;
+        float centerZ = 0;
+        for (int i = 0; i < count; i++) {
+            LocationComponent locationComponent = members.get(i).getComponent(LocationComponent.class);
+            if (locationComponent != null) {
+                locationComponent.getWorldPosition(position);
+            } else {
+                position.set(leaderX, position.y, leaderZ);
+            }
+            positions[3 * i] = position.x;
+            positions[3 * i + 1] = position.y;
+            positions[3 * i + 2] = position.z;
+            centerX += position.x;
+            centerZ += position.z;
+        }
+        centerX /= count;
+        centerZ /= count;
+
+        for (int i = 0; i < count; i++) {
+            EntityRef member = members.get(i);
+            if (member.equals(flockComponent.leader)) {
+                continue;
+            }
+            float x = positions[3 * i];
+            float z = positions[3 * i + 2];
+            float steerX = 0;
+            float steerZ = 0;
+
+            float toLeaderX = leaderX - x;
+            float toLeaderZ = leaderZ - z;
+            float leaderDistance = (float) Math.sqrt(toLeaderX * toLeaderX + toLeaderZ * toLeaderZ);
+            if (leaderDistance > config.followDistance) {
+                float pull = (leaderDistance - config.followDistance) / leaderDistance;
+                steerX += toLeaderX * pull;
+                steerZ += toLeaderZ * pull;
+            }
+
+            steerX += (centerX - x) * config.cohesionWeight;
+            steerZ += (centerZ - z) * config.cohesionWeight;
+
+            separatingMember = member;
+            separatingX = x;
+            separatingZ = z;
+            separationX = 0;
+            separationZ = 0;
+            position.set(x, positions[3 * i + 1], z);
+            spatialIndex.forEachPositionWithin(position, config.separationDistance, null, separation);
+            separatingMember = EntityRef.NULL;
+            steerX += separationX;
+            steerZ += separationZ;
+
+            if (steerX * steerX + steerZ * steerZ < MIN_STEERING_DISTANCE * MIN_STEERING_DISTANCE) {
+                steeringTargets.remove(member);
+            } else {
+                steeringTargets.computeIfAbsent(member, key -> new Vector3f())
+                        .set(x + steerX, positions[3 * i + 1], z + steerZ);
+            }
+        }
+    }
+
+    /**
+     * Pushes the member being steered away from a neighbour closer than the separation distance.
+     */
+    private void separateFrom(EntityRef neighbour, float x, float y, float z) {
+        float awayX = separatingX - x;
+        float awayZ = separatingZ - z;
+        float distanceSquared = awayX * awayX + awayZ * awayZ;
+        float separationDistance = config.separationDistance;
+        if (neighbour.equals(separatingMember) || distanceSquared >= separationDistance * separationDistance
+                || distanceSquared < 0.0001f) {
+            return;
+        }
+        float distance = (float) Math.sqrt(distanceSquared);
+        float push = (separationDistance - distance) / distance;
+        separationX += awayX * push;
+        separationZ += awayZ * push;
+    }
+
+    /**
+     * Replaces the behavior component, so the behavior system sets up an interpreter for the new tree.
+     */
+    private void setTree(EntityRef animal, BehaviorTree tree) {
+        BehaviorComponent behaviorComponent = new BehaviorComponent();
+        behaviorComponent.tree = tree;
+        animal.removeComponent(BehaviorComponent.class);
+        animal.addComponent(behaviorComponent);
+    }
+
+    private void resolveMemberTree() {
+        memberTree = Assets.get(config.memberBehavior, BehaviorTree.class).orElse(null);
+        if (memberTree == null) {
+            logger.warn("Behavior tree {} for flock members not found, they will run their own trees", config.memberBehavior);
+        }
+    }
+}
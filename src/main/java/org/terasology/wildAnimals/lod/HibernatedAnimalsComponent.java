@@ -0,0 +1,106 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.lod;
+
+import org.joml.Vector3i;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.gestalt.entitysystem.component.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The WildAnimals hibernating in one chunk, stored on an entity located in that chunk so it is saved and loaded along
+ * with it.
+ * <p>
+ * Each animal is one index into the parallel arrays, rather than an entity of its own. The arrays have room for more
+ * animals than {@link #count}, so adding animals one by one does not copy them every time.
+ */
+public class HibernatedAnimalsComponent implements Component<HibernatedAnimalsComponent> {
+    public Vector3i chunkPos = new Vector3i();
+    /**
+     * The number of hibernating animals, the entries of the arrays past it are unused.
+     */
+    public int count;
+    /**
+     * The prefabs of the hibernating animals' current growth stage, referred to by {@link #prefabIndices}.
+     */
+    public List<Prefab> prefabs = new ArrayList<>();
+    public int[] prefabIndices = new int[0];
+    /**
+     * The world positions of the animals, three values per animal.
+     */
+    public float[] positions = new float[0];
+    /**
+     * The rotations of the animals around the y axis, in radians.
+     */
+    public float[] yaws = new float[0];
+    /**
+     * The current health of the animals, -1 for animals without health.
+     */
+    public int[] health = new int[0];
+    /**
+     * The game time in milliseconds left until the animals grow, -1 for animals not growing.
+     */
+    public long[] growthRemaining = new long[0];
+    /**
+     * The seeds of the animals, see {@link org.terasology.wildAnimals.component.WildAnimalComponent#seed}.
+     */
+    public long[] seeds = new long[0];
+    /**
+     * The flocks the animals rejoin when they wake up, {@link EntityRef#NULL} for animals in none.
+     */
+    public List<EntityRef> flocks = new ArrayList<>();
+    /**
+     * The display names of the animals, empty for animals without one.
+     */
+    public List<String> names = new ArrayList<>();
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Adds an animal, making room for half as many more animals again if the arrays are full.
+     */
+    public void add(int prefabIndex, float x, float y, float z, float yaw, int animalHealth,
+                    long animalGrowthRemaining, long seed, EntityRef flock, String name) {
+        if (count == prefabIndices.length) {
+            int capacity = Math.max(4, count + count / 2);
+            prefabIndices = Arrays.copyOf(prefabIndices, capacity);
+            positions = Arrays.copyOf(positions, 3 * capacity);
+            yaws = Arrays.copyOf(yaws, capacity);
+            health = Arrays.copyOf(health, capacity);
+            growthRemaining = Arrays.copyOf(growthRemaining, capacity);
+            seeds = Arrays.copyOf(seeds, capacity);
+        }
+        prefabIndices[count] = prefabIndex;
+        positions[3 * count] = x;
+        positions[3 * count + 1] = y;
+        positions[3 * count + 2] = z;
+        yaws[count] = yaw;
+        health[count] = animalHealth;
+        growthRemaining[count] = animalGrowthRemaining;
+        seeds[count] = seed;
+        flocks.add(flock);
+        names.add(name);
+        count++;
+    }
+
+    @Override
+    public void copyFrom(HibernatedAnimalsComponent other) {
+        this.chunkPos = new Vector3i(other.chunkPos);
+        this.count = other.count;
+        this.prefabs = new ArrayList<>(other.prefabs);
+        this.prefabIndices = other.prefabIndices.clone();
+        this.positions = other.positions.clone();
+        this.yaws = other.yaws.clone();
+        this.health = other.health.clone();
+        this.growthRemaining = other.growthRemaining.clone();
+        this.seeds = other.seeds.clone();
+        this.flocks = new ArrayList<>(other.flocks);
+        this.names = new ArrayList<>(other.names);
+    }
+}
@@ -0,0 +1,308 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.lod;
+
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.joml.Vector3i;
+import org.terasology.engine.core.Time;
+import org.terasology.engine.entitySystem.entity.EntityManager;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.logic.common.DisplayNameComponent;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.module.health.components.HealthComponent;
+import org.terasology.wildAnimals.component.WildAnimalComponent;
+import org.terasology.wildAnimals.component.WildAnimalGrowthComponent;
+import org.terasology.wildAnimals.flock.WildAnimalsFlockSystem;
+import org.terasology.wildAnimals.metrics.WildlifeMetricsSystem;
+import org.terasology.wildAnimals.system.WildAnimalsPopulationSystem;
+import org.terasology.wildAnimals.util.EntityRotation;
+import org.terasology.wildAnimals.util.WildAnimalEntities;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collapses WildAnimals far away from every player into a {@link HibernatedAnimalsComponent} of the chunk they are in,
+ * and turns them back into entities once a player comes close to that chunk again.
+ * <p>
+ * Animals are handed over by the {@link WildAnimalLodSystem} when they are past
+ * {@link org.terasology.wildAnimals.AnimalLodConfig#hibernateDistance}. A hibernating animal keeps its species, growth
+ * stage, position, yaw, health, time left to grow, seed, flock and display name; everything else is taken from its
+ * prefab again when it wakes up. Hibernating animals keep counting towards the populations of the
+ * {@link WildAnimalsPopulationSystem}, so spawning does not fill their region up again while they sleep.
+ */
+@Share(value = WildAnimalHibernationSystem.class)
+@RegisterSystem(RegisterMode.AUTHORITY)
+public class WildAnimalHibernationSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+
+    private static final int STORES_CHECKED_PER_TICK = 8;
+
+    @In
+    private EntityManager entityManager;
+
+    @In
+    private Time time;
+
+    @In
+    private WildAnimalLodSystem lodSystem;
+
+    @In
+    private WildAnimalsFlockSystem flockSystem;
+
+    @In
+    private WildAnimalsPopulationSystem populationSystem;
+
+    @In
+    private WildlifeMetricsSystem metrics;
+
+    /**
+     * The loaded store entities, by the chunk whose animals they hold.
+     */
+    private final Map<Vector3i, EntityRef> stores = new HashMap<>();
+    private final EntityRotation storeOrder = new EntityRotation();
+    /**
+     * The stores animals were added to since the last update, which have not been saved since.
+     */
+    private final Set<EntityRef> dirtyStores = new HashSet<>();
+
+    private final Vector3i chunkPos = new Vector3i();
+    private final Vector3f position = new Vector3f();
+    private final Quaternionf rotation = new Quaternionf();
+
+    private long hibernated;
+    private long rehydrated;
+
+    @Override
+    public void shutdown() {
+        stores.clear();
+        storeOrder.clear();
+        dirtyStores.clear();
+    }
+
+    /**
+     * Saves the stores animals were added to, and wakes up the animals of a few chunks if a player has come close to
+     * them.
+     */
+    @Override
+    public void update(float delta) {
+        long start = System.nanoTime();
+        saveDirtyStores();
+        wakeUpStores();
+        metrics.recordTickWork(start);
+    }
+
+    private void saveDirtyStores() {
+        for (EntityRef store : dirtyStores) {
+            HibernatedAnimalsComponent hibernatedAnimals = store.getComponent(HibernatedAnimalsComponent.class);
+            if (hibernatedAnimals != null) {
+                store.saveComponent(hibernatedAnimals);
+            }
+        }
+        dirtyStores.clear();
+    }
+
+    private void wakeUpStores() {
+        int count = Math.min(STORES_CHECKED_PER_TICK, storeOrder.size());
+        for (int i = 0; i < count; i++) {
+            EntityRef store = storeOrder.next();
+            HibernatedAnimalsComponent hibernatedAnimals = store.getComponent(HibernatedAnimalsComponent.class);
+            if (hibernatedAnimals == null) {
+                continue;
+            }
+            position.set(
+                    (hibernatedAnimals.chunkPos.x + 0.5f) * Chunks.SIZE_X,
+                    (hibernatedAnimals.chunkPos.y + 0.5f) * Chunks.SIZE_Y,
+                    (hibernatedAnimals.chunkPos.z + 0.5f) * Chunks.SIZE_Z);
+            if (lodSystem.getDistanceToClosestPlayer(position) < lodSystem.getWakeDistance()) {
+                rehydrate(store, hibernatedAnimals);
+                // the rotation changed, so stop here and continue next tick
+                return;
+            }
+        }
+    }
+
+    /**
+     * Turns an animal into a record of the store of its chunk.
+     *
+     * @param animal the animal to hibernate, which must not be used by the caller afterwards if this succeeds
+     * @return true if the animal is hibernating now
+     */
+    public boolean hibernate(EntityRef animal) {
+        LocationComponent locationComponent = animal.getComponent(LocationComponent.class);
+        WildAnimalComponent wildAnimalComponent = animal.getComponent(WildAnimalComponent.class);
+        Prefab prefab = wildAnimalComponent != null && wildAnimalComponent.stagePrefab != null
+                ? wildAnimalComponent.stagePrefab : animal.getParentPrefab();
+        if (locationComponent == null || prefab == null) {
+            return false;
+        }
+        locationComponent.getWorldPosition(position);
+        locationComponent.getWorldRotation(rotation);
+        Vector3f forward = rotation.transform(new Vector3f(0, 0, 1));
+        float yaw = (float) Math.atan2(forward.x, forward.z);
+
+        HealthComponent healthComponent = animal.getComponent(HealthComponent.class);
+        int health = healthComponent != null ? healthComponent.currentHealth : -1;
+        WildAnimalGrowthComponent growthComponent = animal.getComponent(WildAnimalGrowthComponent.class);
+        long growthRemaining = -1;
+        if (growthComponent != null && growthComponent.growthTime != 0) {
+            growthRemaining = Math.max(0, growthComponent.growthTime - time.getGameTimeInMs());
+        }
+        DisplayNameComponent displayNameComponent = animal.getComponent(DisplayNameComponent.class);
+        String name = displayNameComponent != null && displayNameComponent.name != null ? displayNameComponent.name : "";
+
+        chunkPos.set(
+                Math.floorDiv((int) Math.floor(position.x), Chunks.SIZE_X),
+                Math.floorDiv((int) Math.floor(position.y), Chunks.SIZE_Y),
+                Math.floorDiv((int) Math.floor(position.z), Chunks.SIZE_Z));
+        EntityRef store = stores.get(chunkPos);
+        HibernatedAnimalsComponent hibernatedAnimals =
+                store != null ? store.getComponent(HibernatedAnimalsComponent.class) : null;
+        if (hibernatedAnimals == null) {
+            hibernatedAnimals = new HibernatedAnimalsComponent();
+            hibernatedAnimals.chunkPos.set(chunkPos);
+        }
+
+        int prefabIndex = hibernatedAnimals.prefabs.indexOf(prefab);
+        if (prefabIndex < 0) {
+            prefabIndex = hibernatedAnimals.prefabs.size();
+            hibernatedAnimals.prefabs.add(prefab);
+        }
+        hibernatedAnimals.add(prefabIndex, position.x, position.y, position.z, yaw, health, growthRemaining,
+                wildAnimalComponent != null ? wildAnimalComponent.seed : 0, flockSystem.hibernateMember(animal), name);
+
+        if (store != null && store.hasComponent(HibernatedAnimalsComponent.class)) {
+            // saved once per tick, however many animals joined the store
+            dirtyStores.add(store);
+            // a new store counts its animals once it is activated
+            populationSystem.addHibernating(prefab, position);
+        } else {
+            LocationComponent storeLocation = new LocationComponent();
+            storeLocation.setWorldPosition(new Vector3f(
+                    (chunkPos.x + 0.5f) * Chunks.SIZE_X,
+                    (chunkPos.y + 0.5f) * Chunks.SIZE_Y,
+                    (chunkPos.z + 0.5f) * Chunks.SIZE_Z));
+            entityManager.create(hibernatedAnimals, storeLocation);
+        }
+
+        animal.destroy();
+        hibernated++;
+        return true;
+    }
+
+    /**
+     * @return the number of animals hibernating in loaded chunks
+     */
+    public int getHibernatingCount() {
+        int count = 0;
+        for (EntityRef store : stores.values()) {
+            HibernatedAnimalsComponent hibernatedAnimals = store.getComponent(HibernatedAnimalsComponent.class);
+            if (hibernatedAnimals != null) {
+                count += hibernatedAnimals.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of animals sent into hibernation since the system was started
+     */
+    public long getHibernatedTotal() {
+        return hibernated;
+    }
+
+    /**
+     * @return the number of animals woken up since the system was started
+     */
+    public long getRehydratedTotal() {
+        return rehydrated;
+    }
+
+    @ReceiveEvent
+    public void onStoreActivated(OnActivatedComponent event, EntityRef entity, HibernatedAnimalsComponent hibernatedAnimals) {
+        stores.put(new Vector3i(hibernatedAnimals.chunkPos), entity);
+        storeOrder.add(entity);
+        for (int i = 0; i < hibernatedAnimals.size(); i++) {
+            populationSystem.addHibernating(getPrefab(hibernatedAnimals, i), getPosition(hibernatedAnimals, i));
+        }
+    }
+
+    @ReceiveEvent
+    public void onStoreDeactivated(BeforeDeactivateComponent event, EntityRef entity, HibernatedAnimalsComponent hibernatedAnimals) {
+        if (stores.remove(hibernatedAnimals.chunkPos) == null) {
+            // forgotten on shutdown, along with the populations
+            return;
+        }
+        storeOrder.remove(entity);
+        // changed in place, so it is stored as it is even without being saved
+        dirtyStores.remove(entity);
+        for (int i = 0; i < hibernatedAnimals.size(); i++) {
+            populationSystem.removeHibernating(getPrefab(hibernatedAnimals, i), getPosition(hibernatedAnimals, i));
+        }
+    }
+
+    /**
+     * Turns every animal of a store back into an entity and destroys the store.
+     */
+    private void rehydrate(EntityRef store, HibernatedAnimalsComponent hibernatedAnimals) {
+        long now = time.getGameTimeInMs();
+        for (int i = 0; i < hibernatedAnimals.size(); i++) {
+            Prefab prefab = getPrefab(hibernatedAnimals, i);
+            EntityRef flock = hibernatedAnimals.flocks.get(i);
+            if (prefab == null) {
+                flockSystem.wakeMember(flock, EntityRef.NULL);
+                continue;
+            }
+            rotation.rotationY(hibernatedAnimals.yaws[i]);
+            EntityRef animal = WildAnimalEntities.create(entityManager, prefab, getPosition(hibernatedAnimals, i),
+                    rotation, hibernatedAnimals.seeds[i]);
+
+            HealthComponent healthComponent = animal.getComponent(HealthComponent.class);
+            if (healthComponent != null && hibernatedAnimals.health[i] >= 0) {
+                healthComponent.currentHealth = hibernatedAnimals.health[i];
+                animal.saveComponent(healthComponent);
+            }
+            WildAnimalGrowthComponent growthComponent = animal.getComponent(WildAnimalGrowthComponent.class);
+            if (growthComponent != null && hibernatedAnimals.growthRemaining[i] >= 0) {
+                growthComponent.growthTime = now + hibernatedAnimals.growthRemaining[i];
+                animal.saveComponent(growthComponent);
+            }
+            String name = hibernatedAnimals.names.get(i);
+            if (!name.isEmpty()) {
+                DisplayNameComponent displayNameComponent = animal.getComponent(DisplayNameComponent.class);
+                if (displayNameComponent == null) {
+                    displayNameComponent = new DisplayNameComponent();
+                }
+                displayNameComponent.name = name;
+                animal.addOrSaveComponent(displayNameComponent);
+            }
+            flockSystem.wakeMember(flock, animal);
+            rehydrated++;
+        }
+        store.destroy();
+    }
+
+    private static Prefab getPrefab(HibernatedAnimalsComponent hibernatedAnimals, int i) {
+        return hibernatedAnimals.prefabs.get(hibernatedAnimals.prefabIndices[i]);
+    }
+
+    private Vector3f getPosition(HibernatedAnimalsComponent hibernatedAnimals, int i) {
+        return position.set(
+                hibernatedAnimals.positions[3 * i],
+                hibernatedAnimals.positions[3 * i + 1],
+                hibernatedAnimals.positions[3 * i + 2]);
+    }
+}
@@ -0,0 +1,24 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.lod;
+
+import org.terasology.engine.logic.behavior.asset.BehaviorTree;
+import org.terasology.gestalt.entitysystem.component.Component;
+
+/**
+ * Added to WildAnimals while they are in a reduced level of detail, remembering the behavior tree to restore when a
+ * player comes close again.
+ */
+public class WildAnimalLodComponent implements Component<WildAnimalLodComponent> {
+    public WildAnimalLodTier tier = WildAnimalLodTier.FULL;
+    /**
+     * The animal's own behavior tree.
+     */
+    public BehaviorTree fullTree;
+
+    @Override
+    public void copyFrom(WildAnimalLodComponent other) {
+        this.tier = other.tier;
+        this.fullTree = other.fullTree;
+    }
+}
@@ -0,0 +1,325 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.lod;
+
+import org.joml.Vector3f;
+import org.joml.Vector3fc;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.entitySystem.entity.EntityManager;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.logic.behavior.BehaviorComponent;
+import org.terasology.engine.logic.behavior.asset.BehaviorTree;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.network.ClientComponent;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.engine.utilities.Assets;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.wildAnimals.AnimalLodConfig;
+import org.terasology.wildAnimals.Death.DestroyAtAnimationEndComponent;
+import org.terasology.wildAnimals.component.WildAnimalComponent;
+import org.terasology.wildAnimals.metrics.WildlifeMetricsSystem;
+import org.terasology.wildAnimals.util.EntityRotation;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reduces the behavior of WildAnimals far away from every player.
+ * <p>
+ * Each tick a few animals, taken round-robin, are sorted into a {@link WildAnimalLodTier} by their distance to the
+ * closest player. Animals in the reduced tier run a cheap behavior tree instead of their own, animals in the suspended
+ * tier run none. Their own tree is kept in a {@link WildAnimalLodComponent} and restored once a player comes close.
+ * Animals even further away are handed to the {@link WildAnimalHibernationSystem}.
+ */
+@Share(value = WildAnimalLodSystem.class)
+@RegisterSystem(RegisterMode.AUTHORITY)
+public class WildAnimalLodSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+
+    private static final Logger logger = LoggerFactory.getLogger(WildAnimalLodSystem.class);
+
+    private AnimalLodConfig config;
+
+    @In
+    private EntityManager entityManager;
+
+    @In
+    private WildAnimalHibernationSystem hibernationSystem;
+
+    @In
+    private WildlifeMetricsSystem metrics;
+
+    private final EntityRotation animals = new EntityRotation();
+    /**
+     * The tier of every animal not running at full detail.
+     */
+    private final Map<EntityRef, WildAnimalLodTier> reducedAnimals = new HashMap<>();
+
+    private BehaviorTree reducedTree;
+
+    private float[] playerPositions = new float[3 * 4];
+    private EntityRef[] playerClients = new EntityRef[4];
+    private int playerCount;
+    private final Vector3f position = new Vector3f();
+
+    @Override
+    public void initialise() {
+        if (config == null) {
+            config = new AnimalLodConfig();
+        }
+        resolveReducedTree();
+    }
+
+    @Override
+    public void shutdown() {
+        animals.clear();
+        reducedAnimals.clear();
+    }
+
+    public void setConfig(AnimalLodConfig configuration) {
+        config = configuration;
+        resolveReducedTree();
+    }
+
+    /**
+     * @return the number of WildAnimals running their own behavior tree
+     */
+    public int getFullDetailCount() {
+        return animals.size() - reducedAnimals.size();
+    }
+
+    /**
+     * @return the number of WildAnimals in the given tier
+     */
+    public int getCount(WildAnimalLodTier tier) {
+        if (tier == WildAnimalLodTier.FULL) {
+            return getFullDetailCount();
+        }
+        int count = 0;
+        for (WildAnimalLodTier reducedTier : reducedAnimals.values()) {
+            if (reducedTier == tier) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the distance in blocks from the position to the closest player, as of the last tick
+     */
+    public float getDistanceToClosestPlayer(Vector3fc pos) {
+        float closest = Float.POSITIVE_INFINITY;
+        for (int i = 0; i < playerCount; i++) {
+            closest = Math.min(closest, getDistanceSquaredToPlayer(i, pos));
+        }
+        return (float) Math.sqrt(closest);
+    }
+
+    /**
+     * @return the number of players with a character, as of the last tick
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * @param index from 0 up to {@link #getPlayerCount()}
+     * @return the client entity of the player, as of the last tick
+     */
+    public EntityRef getPlayerClient(int index) {
+        return playerClients[index];
+    }
+
+    /**
+     * @param index from 0 up to {@link #getPlayerCount()}
+     * @return the squared distance in blocks from the position to the player, as of the last tick
+     */
+    public float getDistanceSquaredToPlayer(int index, Vector3fc pos) {
+        float dx = playerPositions[3 * index] - pos.x();
+        float dy = playerPositions[3 * index + 1] - pos.y();
+        float dz = playerPositions[3 * index + 2] - pos.z();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * @return the distance in blocks to the closest player below which hibernating animals wake up
+     */
+    public float getWakeDistance() {
+        if (config.hibernateDistance <= 0) {
+            return Float.POSITIVE_INFINITY;
+        }
+        return config.hibernateDistance - config.hysteresis;
+    }
+
+    @Override
+    public void update(float delta) {
+        long start = System.nanoTime();
+        // also needed by the hibernation system when there are no animals awake
+        collectPlayerPositions();
+        int count = Math.min(config.animalsPerTick, animals.size());
+        for (int i = 0; i < count; i++) {
+            updateAnimal(animals.next());
+        }
+        metrics.recordTickWork(start);
+    }
+
+    @ReceiveEvent
+    public void onWildAnimalActivated(OnActivatedComponent event, EntityRef entity, WildAnimalComponent wildAnimalComponent) {
+        animals.add(entity);
+    }
+
+    @ReceiveEvent
+    public void onWildAnimalDeactivated(BeforeDeactivateComponent event, EntityRef entity, WildAnimalComponent wildAnimalComponent) {
+        animals.remove(entity);
+    }
+
+    @ReceiveEvent
+    public void onLodActivated(OnActivatedComponent event, EntityRef entity, WildAnimalLodComponent lodComponent) {
+        reducedAnimals.put(entity, lodComponent.tier);
+    }
+
+    @ReceiveEvent
+    public void onLodChanged(OnChangedComponent event, EntityRef entity, WildAnimalLodComponent lodComponent) {
+        reducedAnimals.put(entity, lodComponent.tier);
+    }
+
+    @ReceiveEvent
+    public void onLodDeactivated(BeforeDeactivateComponent event, EntityRef entity, WildAnimalLodComponent lodComponent) {
+        reducedAnimals.remove(entity);
+    }
+
+    private void updateAnimal(EntityRef animal) {
+        if (!animal.exists() || animal.hasComponent(DestroyAtAnimationEndComponent.class)) {
+            return;
+        }
+        LocationComponent locationComponent = animal.getComponent(LocationComponent.class);
+        if (locationComponent == null) {
+            return;
+        }
+        float distance = getDistanceToClosestPlayer(locationComponent.getWorldPosition(position));
+        if (config.hibernateDistance > 0 && distance > config.hibernateDistance + config.hysteresis
+                && hibernationSystem.hibernate(animal)) {
+            return;
+        }
+        WildAnimalLodComponent lodComponent = animal.getComponent(WildAnimalLodComponent.class);
+        WildAnimalLodTier currentTier = lodComponent != null ? lodComponent.tier : WildAnimalLodTier.FULL;
+        WildAnimalLodTier tier = nextTier(currentTier, distance);
+        if (tier != currentTier || lodComponent != null) {
+            // applied again while reduced, as growing or other systems may have put a behavior back in the meantime
+            applyTier(animal, tier, lodComponent);
+        }
+    }
+
+    /**
+     * Picks the tier for an animal, only leaving the current tier once the animal is clearly past its boundary.
+     */
+    private WildAnimalLodTier nextTier(WildAnimalLodTier currentTier, float distance) {
+        WildAnimalLodTier fartherTier = tierAt(distance - config.hysteresis);
+        if (fartherTier.ordinal() > currentTier.ordinal()) {
+            return fartherTier;
+        }
+        WildAnimalLodTier closerTier = tierAt(distance + config.hysteresis);
+        if (closerTier.ordinal() < currentTier.ordinal()) {
+            return closerTier;
+        }
+        return currentTier;
+    }
+
+    private WildAnimalLodTier tierAt(float distance) {
+        if (distance > config.suspendedDistance) {
+            return WildAnimalLodTier.SUSPENDED;
+        }
+        if (distance > config.reducedDistance) {
+            return WildAnimalLodTier.REDUCED;
+        }
+        return WildAnimalLodTier.FULL;
+    }
+
+    private void applyTier(EntityRef animal, WildAnimalLodTier tier, WildAnimalLodComponent lodComponent) {
+        BehaviorComponent behaviorComponent = animal.getComponent(BehaviorComponent.class);
+        BehaviorTree ownTree = lodComponent != null ? lodComponent.fullTree : null;
+        if (behaviorComponent != null && behaviorComponent.tree != null && behaviorComponent.tree != reducedTree) {
+            ownTree = behaviorComponent.tree;
+        }
+        if (tier == WildAnimalLodTier.REDUCED && reducedTree == null) {
+            tier = WildAnimalLodTier.SUSPENDED;
+        }
+        if (ownTree == null || tier == WildAnimalLodTier.FULL) {
+            if (ownTree != null && (behaviorComponent == null || behaviorComponent.tree != ownTree)) {
+                setTree(animal, ownTree);
+            }
+            if (lodComponent != null) {
+                animal.removeComponent(WildAnimalLodComponent.class);
+            }
+            return;
+        }
+
+        if (tier == WildAnimalLodTier.REDUCED) {
+            if (behaviorComponent == null || behaviorComponent.tree != reducedTree) {
+                setTree(animal, reducedTree);
+            }
+        } else if (behaviorComponent != null) {
+            animal.removeComponent(BehaviorComponent.class);
+        }
+
+        if (lodComponent == null) {
+            lodComponent = new WildAnimalLodComponent();
+            lodComponent.tier = tier;
+            lodComponent.fullTree = ownTree;
+            animal.addComponent(lodComponent);
+        } else if (lodComponent.tier != tier || lodComponent.fullTree != ownTree) {
+            lodComponent.tier = tier;
+            lodComponent.fullTree = ownTree;
+            animal.saveComponent(lodComponent);
+        }
+    }
+
+    /**
+     * Replaces the behavior component, so the behavior system sets up an interpreter for the new tree.
+     */
+    private void setTree(EntityRef animal, BehaviorTree tree) {
+        BehaviorComponent behaviorComponent = new BehaviorComponent();
+        behaviorComponent.tree = tree;
+        animal.removeComponent(BehaviorComponent.class);
+        animal.addComponent(behaviorComponent);
+    }
+
+    private void collectPlayerPositions() {
+        playerCount = 0;
+        for (EntityRef client : entityManager.getEntitiesWith(ClientComponent.class)) {
+            EntityRef character = client.getComponent(ClientComponent.class).character;
+            LocationComponent locationComponent = character != null ? character.getComponent(LocationComponent.class) : null;
+            if (locationComponent == null) {
+                continue;
+            }
+            if (playerCount == playerClients.length) {
+                playerPositions = Arrays.copyOf(playerPositions, playerPositions.length * 2);
+                playerClients = Arrays.copyOf(playerClients, playerClients.length * 2);
+            }
+            locationComponent.getWorldPosition(position);
+            playerPositions[3 * playerCount] = position.x;
+            playerPositions[3 * playerCount + 1] = position.y;
+            playerPositions[3 * playerCount + 2] = position.z;
+            playerClients[playerCount] = client;
+            playerCount++;
+        }
+        // do not keep clients that left alive
+        Arrays.fill(playerClients, playerCount, playerClients.length, null);
+    }
+
+    private void resolveReducedTree() {
+        reducedTree = Assets.get(config.reducedBehavior, BehaviorTree.class).orElse(null);
+        if (reducedTree == null) {
+            logger.warn("Behavior tree {} for distant animals not found, they will be suspended instead", config.reducedBehavior);
+        }
+    }
+}
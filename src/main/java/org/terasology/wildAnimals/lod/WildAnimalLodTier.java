@@ -0,0 +1,21 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.lod;
+
+/**
+ * How much of its behavior a WildAnimal runs, depending on the distance to the closest player.
+ */
+public enum WildAnimalLodTier {
+    /**
+     * The animal runs its own behavior tree.
+     */
+    FULL,
+    /**
+     * The animal runs a cheap behavior tree instead of its own.
+     */
+    REDUCED,
+    /**
+     * The animal runs no behavior tree at all.
+     */
+    SUSPENDED
+}
@@ -0,0 +1,23 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.metrics;
+
+/**
+ * Records the distribution of durations, measured with {@link System#nanoTime()} and reported in milliseconds.
+ */
+public class Timer extends Histogram {
+
+    /**
+     * Records the time passed since the given start.
+     *
+     * @param startNanos the start of the measured work, as given by {@link System#nanoTime()}
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    @Override
+    protected String format(double nanos) {
+        return String.format("%.3fms", nanos / 1_000_000);
+    }
+}
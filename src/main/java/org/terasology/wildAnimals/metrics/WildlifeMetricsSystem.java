@@ -0,0 +1,241 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.logic.console.commandSystem.annotations.Command;
+import org.terasology.engine.logic.permission.PermissionManager;
+import org.terasology.engine.registry.Share;
+import org.terasology.wildAnimals.AnimalMetricsConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Collects the counters, timers, histograms and gauges of the WildAnimals systems by name, so their cost can be
+ * watched without attaching a profiler.
+ * <p>
+ * Systems look up their metrics once, e.g. in {@code initialise}, and record into them as they work. The metrics can be
+ * read with the {@code wildlifeMetrics} console command, and are written to the log every
+ * {@link AnimalMetricsConfig#logIntervalSeconds} if set.
+ */
+@Share(value = WildlifeMetricsSystem.class)
+@RegisterSystem(RegisterMode.AUTHORITY)
+public class WildlifeMetricsSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+
+    private static final Logger logger = LoggerFactory.getLogger(WildlifeMetricsSystem.class);
+
+    private AnimalMetricsConfig config;
+
+    private final Map<String, Counter> counters = new TreeMap<>();
+    private final Map<String, Histogram> histograms = new TreeMap<>();
+    private final Map<String, LongSupplier> gauges = new TreeMap<>();
+    private final Map<String, Supplier<Map<String, Integer>>> gaugeGroups = new TreeMap<>();
+
+    private long startNanos = System.nanoTime();
+    private float sinceLastLog;
+    private long tickWorkNanos;
+
+    @Override
+    public void initialise() {
+        if (config == null) {
+            config = new AnimalMetricsConfig();
+        }
+    }
+
+    public void setConfig(AnimalMetricsConfig configuration) {
+        config = configuration;
+    }
+
+    @Override
+    public void shutdown() {
+        counters.clear();
+        histograms.clear();
+        gauges.clear();
+        gaugeGroups.clear();
+    }
+
+    /**
+     * @return the counter of the given name, created if there is none yet
+     */
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, key -> new Counter());
+    }
+
+    /**
+     * @return the histogram of the given name, created if there is none yet
+     */
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    /**
+     * @return the timer of the given name, created if there is none yet
+     * @throws IllegalStateException if there is a histogram of that name which is no timer
+     */
+    public Timer timer(String name) {
+        Histogram histogram = histograms.computeIfAbsent(name, key -> new Timer());
+        if (!(histogram instanceof Timer)) {
+            throw new IllegalStateException("Metric " + name + " is no timer");
+        }
+        return (Timer) histogram;
+    }
+
+    /**
+     * Reports a value read when the metrics are reported, e.g. the length of a queue.
+     */
+    public void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    /**
+     * Reports a set of named values read when the metrics are reported, e.g. the number of animals per species.
+     * Each value is reported as {@code prefix.key}.
+     */
+    public void gaugeGroup(String prefix, Supplier<Map<String, Integer>> values) {
+        gaugeGroups.put(prefix, values);
+    }
+
+    /**
+     * Counts work a WildAnimals system did on the main thread towards the work of the current tick, see
+     * {@link #takeTickWorkNanos()}. Must be called on the main thread.
+     *
+     * @param startNanos the start of the work, as given by {@link System#nanoTime()}
+     */
+    public void recordTickWork(long startNanos) {
+        tickWorkNanos += System.nanoTime() - startNanos;
+    }
+
+    /**
+     * @return the time the WildAnimals systems spent working on the main thread since the last call, roughly one
+     *         tick when called once per tick
+     */
+    public long takeTickWorkNanos() {
+        long work = tickWorkNanos;
+        tickWorkNanos = 0;
+        return work;
+    }
+
+    /**
+     * Sets all counters and histograms back to zero.
+     */
+    public void reset() {
+        counters.values().forEach(Counter::reset);
+        histograms.values().forEach(Histogram::reset);
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * @return one line per metric, sorted by name; counters also give their rate since the start or last reset
+     */
+    public List<String> report() {
+        List<String> lines = new ArrayList<>();
+        double seconds = Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+        counters.forEach((name, counter) ->
+                lines.add(String.format("%s: %d (%.2f/s)", name, counter.getCount(), counter.getCount() / seconds)));
+        histograms.forEach((name, histogram) -> lines.add(name + ": " + histogram.summarize()));
+        gauges.forEach((name, value) -> lines.add(name + ": " + value.getAsLong()));
+        gaugeGroups.forEach((prefix, group) ->
+                new TreeMap<>(group.get()).forEach((key, value) -> lines.add(prefix + "." + key + ": " + value)));
+        return lines;
+    }
+
+    /**
+     * @return all metrics as a single JSON object, to be compared against a baseline by tools
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\"counters\":{");
+        appendEntries(json, counters, (out, counter) -> out.append(counter.getCount()));
+        json.append("},\"histograms\":{");
+        appendEntries(json, histograms, WildlifeMetricsSystem::appendHistogram);
+        json.append("},\"gauges\":{");
+        Map<String, Long> gaugeValues = new TreeMap<>();
+        gauges.forEach((name, value) -> gaugeValues.put(name, value.getAsLong()));
+        gaugeGroups.forEach((prefix, group) ->
+                group.get().forEach((key, value) -> gaugeValues.put(prefix + "." + key, value.longValue())));
+        appendEntries(json, gaugeValues, (out, value) -> out.append(value.longValue()));
+        return json.append("}}").toString();
+    }
+
+    /**
+     * Appends the summary of a histogram as a JSON object; timers are given in nanoseconds.
+     */
+    public static void appendHistogram(StringBuilder json, Histogram histogram) {
+        json.append("{\"count\":").append(histogram.getCount())
+                .append(",\"mean\":").append(histogram.getMean())
+                .append(",\"p50\":").append(histogram.getPercentile(50))
+                .append(",\"p99\":").append(histogram.getPercentile(99))
+                .append(",\"max\":").append(histogram.getMax())
+                .append('}');
+    }
+
+    /**
+     * Appends a string as a quoted JSON string.
+     */
+    public static void appendQuoted(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\');
+            }
+            json.append(c < ' ' ? ' ' : c);
+        }
+        json.append('"');
+    }
+
+    private static <T> void appendEntries(StringBuilder json, Map<String, T> entries,
+                                          BiConsumer<StringBuilder, T> appendValue) {
+        boolean first = true;
+        for (Map.Entry<String, T> entry : entries.entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            appendQuoted(json, entry.getKey());
+            json.append(':');
+            appendValue.accept(json, entry.getValue());
+        }
+    }
+
+    @Override
+    public void update(float delta) {
+        if (config.logIntervalSeconds <= 0) {
+            return;
+        }
+        sinceLastLog += delta;
+        if (sinceLastLog >= config.logIntervalSeconds) {
+            sinceLastLog = 0;
+            logger.info("WildAnimals metrics: {}", config.logAsJson ? toJson() : String.join("; ", report()));
+        }
+    }
+
+    @Command(shortDescription = "Shows the metrics of the WildAnimals systems",
+            runOnServer = true, requiredPermission = PermissionManager.DEBUG_PERMISSION)
+    public String wildlifeMetrics() {
+        return String.join("\n", report());
+    }
+
+    @Command(shortDescription = "Shows the metrics of the WildAnimals systems as JSON",
+            runOnServer = true, requiredPermission = PermissionManager.DEBUG_PERMISSION)
+    public String wildlifeMetricsJson() {
+        return toJson();
+    }
+
+    @Command(shortDescription = "Sets the counters and histograms of the WildAnimals systems back to zero",
+            runOnServer = true, requiredPermission = PermissionManager.DEBUG_PERMISSION)
+    public String wildlifeMetricsReset() {
+        reset();
+        return "WildAnimals metrics reset";
+    }
+}
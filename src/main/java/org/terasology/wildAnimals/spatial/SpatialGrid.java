@@ -0,0 +1,440 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.spatial;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Uniform grid of points, each with an integer tag, for finding the points near a position without looking at all
+ * of them.
+ * <p>
+ * Points are bucketed into cubic cells by their position. A cell keeps the positions and tags of its points in
+ * parallel arrays, and cells are looked up in an open addressing table keyed by primitive longs, so queries only read
+ * arrays and do not allocate. Moving a point within its cell only overwrites
+ * its position. Not thread safe.
+ *
+ * @param <T> the type of the points, compared by {@link Object#equals(Object)}
+ */
+public class SpatialGrid<T> {
+    /**
+     * Matches every tag in queries.
+     */
+    public static final int ANY_TAG = -1;
+
+    private static final int INITIAL_CELL_CAPACITY = 4;
+
+    /**
+     * Receives the points found by a query along with the positions kept for them in the grid.
+     */
+    @FunctionalInterface
+    public interface PositionConsumer<T> {
+        void accept(T point, float x, float y, float z);
+    }
+
+    private final int cellSize;
+    private final CellTable<T> cells = new CellTable<>();
+    private final Map<T, Slot<T>> slots = new HashMap<>();
+
+    private Object[] nearest = new Object[0];
+    private float[] nearestDistances = new float[0];
+
+    /**
+     * @param cellSize the edge length of the cells in blocks, best about the radius of typical queries
+     */
+    public SpatialGrid(int cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public boolean contains(T point) {
+        return slots.containsKey(point);
+    }
+
+    /**
+     * Adds a point, or moves it and replaces its tag if it is in the grid already.
+     *
+     * @param tag a non-negative number queries can filter by, e.g. a species id
+     */
+    public void put(T point, float x, float y, float z, int tag) {
+        long key = cellKey(cell(x), cell(y), cell(z));
+        Slot<T> slot = slots.get(point);
+        if (slot != null && slot.cell.key != key) {
+            removeFromCell(slot);
+            slot = null;
+            slots.remove(point);
+        }
+        if (slot == null) {
+            Cell<T> cell = cells.get(key);
+            if (cell == null) {
+                cell = new Cell<>(key);
+                cells.put(cell);
+            }
+            slot = new Slot<>(cell, cell.add(point));
+            slots.put(point, slot);
+        }
+        slot.cell.set(slot.index, x, y, z, tag);
+    }
+
+    /**
+     * Moves a point, keeping its tag.
+     *
+     * @return whether the point was in the grid
+     */
+    public boolean move(T point, float x, float y, float z) {
+        Slot<T> slot = slots.get(point);
+        if (slot == null) {
+            return false;
+        }
+        put(point, x, y, z, slot.cell.tags[slot.index]);
+        return true;
+    }
+
+    /**
+     * @return whether the point was in the grid
+     */
+    public boolean remove(T point) {
+        Slot<T> slot = slots.remove(point);
+        if (slot == null) {
+            return false;
+        }
+        removeFromCell(slot);
+        return true;
+    }
+
+    public void clear() {
+        cells.clear();
+        slots.clear();
+        Arrays.fill(nearest, null);
+    }
+
+    /**
+     * Calls the consumer for every point within the radius of the center.
+     *
+     * @param tag the tag of the points to find, or {@link #ANY_TAG}
+     * @return the number of points found
+     */
+    public int forEachWithin(float centerX, float centerY, float centerZ, float radius, int tag,
+                             Consumer<T> consumer) {
+        return visitWithin(centerX, centerY, centerZ, radius, tag, consumer, null);
+    }
+
+    /**
+     * Calls the consumer for every point within the radius of the center, with its position, so callers need not
+     * look the position up themselves.
+     *
+     * @param tag the tag of the points to find, or {@link #ANY_TAG}
+     * @return the number of points found
+     */
+    public int forEachPositionWithin(float centerX, float centerY, float centerZ, float radius, int tag,
+                                     PositionConsumer<T> consumer) {
+        return visitWithin(centerX, centerY, centerZ, radius, tag, null, consumer);
+    }
+
+    /**
+     * Passes the points found to whichever of the consumers is given.
+     */
+    private int visitWithin(float centerX, float centerY, float centerZ, float radius, int tag,
+                            Consumer<T> consumer, PositionConsumer<T> positionConsumer) {
+        float radiusSquared = radius * radius;
+        int found = 0;
+        int maxX = cell(centerX + radius);
+        int maxY = cell(centerY + radius);
+        int maxZ = cell(centerZ + radius);
+        for (int cx = cell(centerX - radius); cx <= maxX; cx++) {
+            for (int cy = cell(centerY - radius); cy <= maxY; cy++) {
+                for (int cz = cell(centerZ - radius); cz <= maxZ; cz++) {
+                    Cell<T> cell = cells.get(cellKey(cx, cy, cz));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < cell.size; i++) {
+                        if (!matches(cell, i, tag)
+                                || cell.distanceSquared(i, centerX, centerY, centerZ) > radiusSquared) {
+                            continue;
+                        }
+                        if (consumer != null) {
+                            consumer.accept(cell.points[i]);
+                        } else {
+                            positionConsumer.accept(cell.points[i], cell.positions[3 * i], cell.positions[3 * i + 1],
+                                    cell.positions[3 * i + 2]);
+                        }
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Calls the consumer for every point within the box, bounds included.
+     *
+     * @param tag the tag of the points to find, or {@link #ANY_TAG}
+     * @return the number of points found
+     */
+    public int forEachInBox(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, int tag,
+                            Consumer<T> consumer) {
+        int found = 0;
+        for (int cx = cell(minX); cx <= cell(maxX); cx++) {
+            for (int cy = cell(minY); cy <= cell(maxY); cy++) {
+                for (int cz = cell(minZ); cz <= cell(maxZ); cz++) {
+                    Cell<T> cell = cells.get(cellKey(cx, cy, cz));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < cell.size; i++) {
+                        float x = cell.positions[3 * i];
+                        float y = cell.positions[3 * i + 1];
+                        float z = cell.positions[3 * i + 2];
+                        if (matches(cell, i, tag) && x >= minX && x <= maxX && y >= minY && y <= maxY
+                                && z >= minZ && z <= maxZ) {
+                            consumer.accept(cell.points[i]);
+                            found++;
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the points closest to the center, up to a maximum distance.
+     *
+     * @param tag the tag of the points to find, or {@link #ANY_TAG}
+     * @param out receives the points found, closest first; its length is the number of points to find
+     * @return the number of points written to out
+     */
+    @SuppressWarnings("unchecked")
+    public int findNearest(float centerX, float centerY, float centerZ, float maxRadius, int tag, T[] out) {
+        int k = out.length;
+        if (k == 0) {
+            return 0;
+        }
+        if (nearest.length < k) {
+            nearest = new Object[k];
+            nearestDistances = new float[k];
+        }
+        float radiusSquared = maxRadius * maxRadius;
+        int found = 0;
+        int maxX = cell(centerX + maxRadius);
+        int maxY = cell(centerY + maxRadius);
+        int maxZ = cell(centerZ + maxRadius);
+        for (int cx = cell(centerX - maxRadius); cx <= maxX; cx++) {
+            for (int cy = cell(centerY - maxRadius); cy <= maxY; cy++) {
+                for (int cz = cell(centerZ - maxRadius); cz <= maxZ; cz++) {
+                    Cell<T> cell = cells.get(cellKey(cx, cy, cz));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < cell.size; i++) {
+                        if (!matches(cell, i, tag)) {
+                            continue;
+                        }
+                        float distance = cell.distanceSquared(i, centerX, centerY, centerZ);
+                        if (distance > radiusSquared || (found == k && distance >= nearestDistances[k - 1])) {
+                            continue;
+                        }
+                        // insertion into the sorted candidates, dropping the farthest one if full
+                        int at = found < k ? found++ : k - 1;
+                        while (at > 0 && nearestDistances[at - 1] > distance) {
+                            nearest[at] = nearest[at - 1];
+                            nearestDistances[at] = nearestDistances[at - 1];
+                            at--;
+                        }
+                        nearest[at] = cell.points[i];
+                        nearestDistances[at] = distance;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < found; i++) {
+            out[i] = (T) nearest[i];
+            nearest[i] = null;
+        }
+        return found;
+    }
+
+    private static boolean matches(Cell<?> cell, int index, int tag) {
+        return tag == ANY_TAG || cell.tags[index] == tag;
+    }
+
+    private void removeFromCell(Slot<T> slot) {
+        Cell<T> cell = slot.cell;
+        T moved = cell.swapRemove(slot.index);
+        if (moved != null) {
+            slots.get(moved).index = slot.index;
+        }
+        if (cell.size == 0) {
+            cells.remove(cell.key);
+        }
+    }
+
+    private int cell(float coordinate) {
+        return Math.floorDiv((int) Math.floor(coordinate), cellSize);
+    }
+
+    private static long cellKey(int x, int y, int z) {
+        return ((long) x & 0x1FFFFF) << 42 | ((long) y & 0x1FFFFF) << 21 | (long) z & 0x1FFFFF;
+    }
+
+    /**
+     * Hash table from cell keys to cells with linear probing, kept at most half full.
+     */
+    private static final class CellTable<T> {
+        private static final int INITIAL_CAPACITY = 64;
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private Cell<T>[] values = newValues(INITIAL_CAPACITY);
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        private static <T> Cell<T>[] newValues(int capacity) {
+            return (Cell<T>[]) new Cell[capacity];
+        }
+
+        private Cell<T> get(long key) {
+            int mask = keys.length - 1;
+            for (int i = index(key, mask); values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Adds a cell whose key is not in the table yet.
+         */
+        private void put(Cell<T> cell) {
+            if (2 * (size + 1) > keys.length) {
+                resize(2 * keys.length);
+            }
+            int mask = keys.length - 1;
+            int i = index(cell.key, mask);
+            while (values[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = cell.key;
+            values[i] = cell;
+            size++;
+        }
+
+        private void remove(long key) {
+            int mask = keys.length - 1;
+            int i = index(key, mask);
+            while (values[i] != null && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (values[i] == null) {
+                return;
+            }
+            // shift the following entries of the probe sequence back, so lookups do not stop at the gap
+            int gap = i;
+            for (int j = (gap + 1) & mask; values[j] != null; j = (j + 1) & mask) {
+                int home = index(keys[j], mask);
+                if (((j - home) & mask) >= ((j - gap) & mask)) {
+                    keys[gap] = keys[j];
+                    values[gap] = values[j];
+                    gap = j;
+                }
+            }
+            values[gap] = null;
+            size--;
+        }
+
+        private void clear() {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+
+        private void resize(int capacity) {
+            Cell<T>[] oldValues = values;
+            keys = new long[capacity];
+            values = newValues(capacity);
+            size = 0;
+            for (Cell<T> cell : oldValues) {
+                if (cell != null) {
+                    put(cell);
+                }
+            }
+        }
+
+        private static int index(long key, int mask) {
+            long hash = key * 0x9e3779b97f4a7c15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+
+    private static final class Slot<T> {
+        private final Cell<T> cell;
+        private int index;
+
+        private Slot(Cell<T> cell, int index) {
+            this.cell = cell;
+            this.index = index;
+        }
+    }
+
+    private static final class Cell<T> {
+        private final long key;
+        private T[] points;
+        private float[] positions;
+        private int[] tags;
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        private Cell(long key) {
+            this.key = key;
+            points = (T[]) new Object[INITIAL_CELL_CAPACITY];
+            positions = new float[3 * INITIAL_CELL_CAPACITY];
+            tags = new int[INITIAL_CELL_CAPACITY];
+        }
+
+        private int add(T point) {
+            if (size == points.length) {
+                points = Arrays.copyOf(points, 2 * size);
+                positions = Arrays.copyOf(positions, 6 * size);
+                tags = Arrays.copyOf(tags, 2 * size);
+            }
+            points[size] = point;
+            return size++;
+        }
+
+        private void set(int index, float x, float y, float z, int tag) {
+            positions[3 * index] = x;
+            positions[3 * index + 1] = y;
+            positions[3 * index + 2] = z;
+            tags[index] = tag;
+        }
+
+        /**
+         * @return the point moved into the removed slot, or null if the last point was removed
+         */
+        private T swapRemove(int index) {
+            int last = --size;
+            T moved = null;
+            if (index != last) {
+                moved = points[last];
+                points[index] = moved;
+                System.arraycopy(positions, 3 * last, positions, 3 * index, 3);
+                tags[index] = tags[last];
+            }
+            points[last] = null;
+            return moved;
+        }
+
+        private float distanceSquared(int index, float x, float y, float z) {
+            float dx = positions[3 * index] - x;
+            float dy = positions[3 * index + 1] - y;
+            float dz = positions[3 * index + 2] - z;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+}
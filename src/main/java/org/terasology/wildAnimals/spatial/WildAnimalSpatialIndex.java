@@ -0,0 +1,143 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.spatial;
+
+import org.joml.Vector3f;
+import org.joml.Vector3fc;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.wildAnimals.component.WildAnimalComponent;
+import org.terasology.wildAnimals.species.Species;
+import org.terasology.wildAnimals.species.SpeciesRegistry;
+
+import java.util.function.Consumer;
+
+/**
+ * Answers which WildAnimals are near a position without looking at every animal, e.g. for hunting, lure effects or
+ * cull commands.
+ * <p>
+ * The animals are kept in a {@link SpatialGrid} of {@link #CELL_SIZE} blocks, which is updated as animals are
+ * activated, deactivated, move or grow into another species. Queries read the positions kept in the grid, so they
+ * neither touch the animals' components nor allocate.
+ */
+@Share(value = WildAnimalSpatialIndex.class)
+@RegisterSystem(RegisterMode.ALWAYS)
+public class WildAnimalSpatialIndex extends BaseComponentSystem {
+    public static final int CELL_SIZE = 16;
+
+    /**
+     * The tag of animals without a species, never matching a species in queries.
+     */
+    private static final int NO_SPECIES = Integer.MAX_VALUE;
+
+    @In
+    private SpeciesRegistry speciesRegistry;
+
+    private final SpatialGrid<EntityRef> grid = new SpatialGrid<>(CELL_SIZE);
+    private final Vector3f position = new Vector3f();
+
+    @Override
+    public void shutdown() {
+        grid.clear();
+    }
+
+    /**
+     * Calls the consumer for every animal within the radius of the center.
+     *
+     * @param species the species of the animals to find, or null for all
+     * @return the number of animals found
+     */
+    public int forEachWithin(Vector3fc center, float radius, Species species, Consumer<EntityRef> consumer) {
+        return grid.forEachWithin(center.x(), center.y(), center.z(), radius, tagOf(species), consumer);
+    }
+
+    /**
+     * Calls the consumer for every animal within the radius of the center, with the position the index keeps for it.
+     *
+     * @param species the species of the animals to find, or null for all
+     * @return the number of animals found
+     */
+    public int forEachPositionWithin(Vector3fc center, float radius, Species species,
+                                     SpatialGrid.PositionConsumer<EntityRef> consumer) {
+        return grid.forEachPositionWithin(center.x(), center.y(), center.z(), radius, tagOf(species), consumer);
+    }
+
+    /**
+     * Calls the consumer for every animal within the box, bounds included.
+     *
+     * @param species the species of the animals to find, or null for all
+     * @return the number of animals found
+     */
+    public int forEachInBox(Vector3fc min, Vector3fc max, Species species, Consumer<EntityRef> consumer) {
+        return grid.forEachInBox(min.x(), min.y(), min.z(), max.x(), max.y(), max.z(), tagOf(species), consumer);
+    }
+
+    /**
+     * Finds the animals closest to the center.
+     *
+     * @param maxRadius the maximum distance of the animals to find; the larger, the more cells are looked at
+     * @param species the species of the animals to find, or null for all
+     * @param out receives the animals found, closest first; its length is the number of animals to find
+     * @return the number of animals written to out
+     */
+    public int findNearest(Vector3fc center, float maxRadius, Species species, EntityRef[] out) {
+        return grid.findNearest(center.x(), center.y(), center.z(), maxRadius, tagOf(species), out);
+    }
+
+    /**
+     * @return the number of animals in the index
+     */
+    public int size() {
+        return grid.size();
+    }
+
+    @ReceiveEvent(components = LocationComponent.class)
+    public void onWildAnimalActivated(OnActivatedComponent event, EntityRef entity, WildAnimalComponent wildAnimalComponent) {
+        put(entity, entity.getComponent(LocationComponent.class));
+    }
+
+    /**
+     * The animal may have grown into another species.
+     */
+    @ReceiveEvent(components = LocationComponent.class)
+    public void onWildAnimalChanged(OnChangedComponent event, EntityRef entity, WildAnimalComponent wildAnimalComponent) {
+        put(entity, entity.getComponent(LocationComponent.class));
+    }
+
+    @ReceiveEvent(components = WildAnimalComponent.class)
+    public void onWildAnimalMoved(OnChangedComponent event, EntityRef entity, LocationComponent locationComponent) {
+        locationComponent.getWorldPosition(position);
+        if (!grid.move(entity, position.x, position.y, position.z)) {
+            put(entity, locationComponent);
+        }
+    }
+
+    @ReceiveEvent
+    public void onWildAnimalDeactivated(BeforeDeactivateComponent event, EntityRef entity, WildAnimalComponent wildAnimalComponent) {
+        grid.remove(entity);
+    }
+
+    @ReceiveEvent(components = WildAnimalComponent.class)
+    public void onLocationDeactivated(BeforeDeactivateComponent event, EntityRef entity, LocationComponent locationComponent) {
+        grid.remove(entity);
+    }
+
+    private void put(EntityRef entity, LocationComponent locationComponent) {
+        locationComponent.getWorldPosition(position);
+        Species species = speciesRegistry.getSpecies(entity);
+        grid.put(entity, position.x, position.y, position.z, species != null ? species.getId() : NO_SPECIES);
+    }
+
+    private static int tagOf(Species species) {
+        return species != null ? species.getId() : SpatialGrid.ANY_TAG;
+    }
+}
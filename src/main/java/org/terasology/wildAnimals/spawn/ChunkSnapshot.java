@@ -0,0 +1,98 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.spawn;
+
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.world.WorldProvider;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.chunks.Chunk;
+import org.terasology.engine.world.chunks.Chunks;
+
+/**
+ * The blocks a {@link SpawnSiteScanner} needs to look at for one chunk, safe to be read from a worker thread.
+ * <p>
+ * The blocks of the chunk and of the layers directly above and below it, which belong to its neighbours, are copied
+ * when the snapshot is taken on the main thread, so the scan never reads the chunk while it is being changed.
+ */
+public final class ChunkSnapshot {
+    private final Block[] terrain;
+    private final Vector3i chunkPos;
+
+    private ChunkSnapshot(Block[] terrain, Vector3ic chunkPos) {
+        this.terrain = terrain;
+        this.chunkPos = new Vector3i(chunkPos);
+    }
+
+    /**
+     * Takes a snapshot of the given chunk. Has to be called on the main thread.
+     *
+     * @param chunk the chunk to take the snapshot of
+     * @param chunkPos the position of the chunk
+     * @param worldProvider used to read the layers of the neighbouring chunks
+     */
+    public static ChunkSnapshot of(Chunk chunk, Vector3ic chunkPos, WorldProvider worldProvider) {
+        Block[] terrain = new Block[terrainSize()];
+        int worldX = chunkPos.x() * Chunks.SIZE_X;
+        int worldY = chunkPos.y() * Chunks.SIZE_Y;
+        int worldZ = chunkPos.z() * Chunks.SIZE_Z;
+        for (int z = 0; z < Chunks.SIZE_Z; z++) {
+            for (int x = 0; x < Chunks.SIZE_X; x++) {
+                terrain[terrainIndex(x, -1, z)] = worldProvider.getBlock(worldX + x, worldY - 1, worldZ + z);
+                terrain[terrainIndex(x, Chunks.SIZE_Y, z)] =
+                        worldProvider.getBlock(worldX + x, worldY + Chunks.SIZE_Y, worldZ + z);
+            }
+        }
+        int index = terrainIndex(0, 0, 0);
+        for (int y = 0; y < Chunks.SIZE_Y; y++) {
+            for (int z = 0; z < Chunks.SIZE_Z; z++) {
+                for (int x = 0; x < Chunks.SIZE_X; x++) {
+                    terrain[index++] = chunk.getBlock(x, y, z);
+                }
+            }
+        }
+        return new ChunkSnapshot(terrain, chunkPos);
+    }
+
+    /**
+     * Makes a snapshot of blocks that are not part of the world, e.g. synthetic terrain to measure scanning with.
+     *
+     * @param chunkPos the position the chunk is assumed to be at
+     * @param terrain the blocks of the chunk and of the layers directly above and below it, indexed by
+     *         {@link #terrainIndex(int, int, int)}; not copied, so it must not be changed while the snapshot is used
+     */
+    public static ChunkSnapshot of(Vector3ic chunkPos, Block[] terrain) {
+        if (terrain.length != terrainSize()) {
+            throw new IllegalArgumentException("Expected " + terrainSize() + " blocks, got " + terrain.length);
+        }
+        return new ChunkSnapshot(terrain, chunkPos);
+    }
+
+    /**
+     * @param y the chunk-relative y coordinate, from -1 up to and including {@link Chunks#SIZE_Y}
+     * @return the index of a block in the terrain given to {@link #of(Vector3ic, Block[])}
+     */
+    public static int terrainIndex(int x, int y, int z) {
+        return ((y + 1) * Chunks.SIZE_Z + z) * Chunks.SIZE_X + x;
+    }
+
+    /**
+     * @return the number of blocks in the terrain given to {@link #of(Vector3ic, Block[])}
+     */
+    public static int terrainSize() {
+        return Chunks.SIZE_X * (Chunks.SIZE_Y + 2) * Chunks.SIZE_Z;
+    }
+
+    public Vector3ic getChunkPos() {
+        return chunkPos;
+    }
+
+    /**
+     * @param x the chunk-relative x coordinate
+     * @param y the chunk-relative y coordinate, from -1 up to and including {@link Chunks#SIZE_Y}
+     * @param z the chunk-relative z coordinate
+     */
+    public Block getBlock(int x, int y, int z) {
+        return terrain[terrainIndex(x, y, z)];
+    }
+}
@@ -0,0 +1,87 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.spawn;
+
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+
+import java.util.SplittableRandom;
+
+/**
+ * A flock waiting in the {@link SpawnQueue} to be spawned into a chunk.
+ */
+public class SpawnJob {
+    private final Vector3i chunkPos;
+    private final Prefab prefab;
+    private final SpawnSites sites;
+    private final SplittableRandom random;
+    private final long enqueueTime;
+    private int remaining;
+    private EntityRef flock = EntityRef.NULL;
+
+    /**
+     * @param chunkPos the chunk the flock is spawned in
+     * @param prefab the prefab of the animals to spawn
+     * @param sites the candidate sites, owned by the job from now on
+     * @param count the number of animals to spawn
+     * @param random the random stream choosing the sites and rotations of the animals
+     * @param enqueueTime the time the job was created at, as given by {@link System#nanoTime()}
+     */
+    public SpawnJob(Vector3ic chunkPos, Prefab prefab, SpawnSites sites, int count, SplittableRandom random,
+                    long enqueueTime) {
+        this.chunkPos = new Vector3i(chunkPos);
+        this.prefab = prefab;
+        this.sites = sites;
+        this.random = random;
+        this.remaining = Math.min(count, sites.size());
+        this.enqueueTime = enqueueTime;
+    }
+
+    public Vector3ic getChunkPos() {
+        return chunkPos;
+    }
+
+    public Prefab getPrefab() {
+        return prefab;
+    }
+
+    public SpawnSites getSites() {
+        return sites;
+    }
+
+    public SplittableRandom getRandom() {
+        return random;
+    }
+
+    public long getEnqueueTime() {
+        return enqueueTime;
+    }
+
+    public int getRemaining() {
+        return remaining;
+    }
+
+    /**
+     * @return true if all animals have been spawned or there are no candidate sites left
+     */
+    public boolean isDone() {
+        return remaining <= 0 || sites.size() == 0;
+    }
+
+    /**
+     * @return the flock the spawned animals join, {@link EntityRef#NULL} until the first animal has been spawned
+     */
+    public EntityRef getFlock() {
+        return flock;
+    }
+
+    public void setFlock(EntityRef flock) {
+        this.flock = flock;
+    }
+
+    public void spawned() {
+        remaining--;
+    }
+}
@@ -0,0 +1,79 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.spawn;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * FIFO of pending {@link SpawnJob}s, together with the statistics needed to size the per-tick spawn budget.
+ */
+public class SpawnQueue {
+    private final Deque<SpawnJob> jobs = new ArrayDeque<>();
+
+    private long completedJobs;
+    private long droppedJobs;
+    private float lastDrainLatencyMs;
+    private float maxDrainLatencyMs;
+
+    public void add(SpawnJob job) {
+        jobs.addLast(job);
+    }
+
+    public SpawnJob peek() {
+        return jobs.peekFirst();
+    }
+
+    /**
+     * Removes the head job after all of its animals have been spawned.
+     *
+     * @param now the current time, as given by {@link System#nanoTime()}
+     */
+    public void complete(long now) {
+        SpawnJob job = jobs.pollFirst();
+        if (job != null) {
+            completedJobs++;
+            lastDrainLatencyMs = (now - job.getEnqueueTime()) / 1_000_000f;
+            maxDrainLatencyMs = Math.max(maxDrainLatencyMs, lastDrainLatencyMs);
+        }
+    }
+
+    /**
+     * Removes the head job without spawning the rest of its animals, e.g. because its chunk got unloaded.
+     */
+    public void drop() {
+        if (jobs.pollFirst() != null) {
+            droppedJobs++;
+        }
+    }
+
+    public void clear() {
+        jobs.clear();
+    }
+
+    public int size() {
+        return jobs.size();
+    }
+
+    public long getCompletedJobs() {
+        return completedJobs;
+    }
+
+    public long getDroppedJobs() {
+        return droppedJobs;
+    }
+
+    /**
+     * @return the time in milliseconds between enqueueing and finishing the most recently completed job
+     */
+    public float getLastDrainLatencyMs() {
+        return lastDrainLatencyMs;
+    }
+
+    /**
+     * @return the highest drain latency in milliseconds seen so far
+     */
+    public float getMaxDrainLatencyMs() {
+        return maxDrainLatencyMs;
+    }
+}
@@ -0,0 +1,150 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.spawn;
+
+/**
+ * Scales spawning down while the WildAnimals systems are over their tick budget, and back up once there is headroom
+ * again.
+ * <p>
+ * The load is the larger of the smoothed work per tick relative to the target, and the number of animals running
+ * their full behavior relative to the AI budget. The work is the time spent computing rather than the time between
+ * ticks, which a server fills up with waiting for the next tick. At most once per {@link #ADJUST_INTERVAL_SECONDS}
+ * the scale is multiplied by {@link #DECREASE_FACTOR} while the load is above 1, and raised by {@link #INCREASE_STEP}
+ * while it is below {@link #HEADROOM}. In between the scale is kept, so it settles instead of swinging around the
+ * budget. Not thread safe.
+ */
+public class SpawnRateController {
+    public static final float ADJUST_INTERVAL_SECONDS = 1;
+    public static final float DECREASE_FACTOR = 0.7f;
+    public static final float INCREASE_STEP = 0.05f;
+    public static final float HEADROOM = 0.8f;
+    /**
+     * The weight of the latest tick in the smoothed tick work.
+     */
+    private static final float SMOOTHING = 0.1f;
+    /**
+     * Ticks are counted as at most this many times the target work, so a single hitch, e.g. while loading,
+     * does not cut the scale down for long.
+     */
+    private static final float MAX_TICK_FACTOR = 4;
+
+    private float targetTickMs;
+    private float aiBudget;
+    private float minScale;
+    private float maxScale = 1;
+
+    private float scale = 1;
+    private float smoothedTickMs = -1;
+    private float aiCost;
+    private float sinceAdjust;
+    private long decreases;
+    private long increases;
+
+    /**
+     * @param targetTickMs the work per tick in milliseconds spawning should stay below, 0 or less to ignore it
+     * @param aiBudget the number of animals running their full behavior spawning should stay below, 0 or less to
+     *                 ignore it
+     * @param minScale the lowest scale
+     * @param maxScale the highest scale
+     */
+    public void configure(float targetTickMs, float aiBudget, float minScale, float maxScale) {
+        this.targetTickMs = targetTickMs;
+        this.aiBudget = aiBudget;
+        this.minScale = Math.max(0, minScale);
+        this.maxScale = Math.max(this.minScale, maxScale);
+        scale = clamp(scale);
+    }
+
+    /**
+     * Takes the measurements of a tick into account.
+     *
+     * @param delta the time in seconds since the last tick
+     * @param tickMs the work done in the last tick in milliseconds
+     * @param aiCost the number of animals running their full behavior
+     */
+    public void update(float delta, float tickMs, float aiCost) {
+        if (targetTickMs > 0) {
+            tickMs = Math.min(tickMs, MAX_TICK_FACTOR * targetTickMs);
+        }
+        smoothedTickMs = smoothedTickMs < 0 ? tickMs : smoothedTickMs + SMOOTHING * (tickMs - smoothedTickMs);
+        this.aiCost = aiCost;
+
+        sinceAdjust += delta;
+        if (sinceAdjust < ADJUST_INTERVAL_SECONDS) {
+            return;
+        }
+        sinceAdjust = 0;
+        float load = getLoad();
+        if (load > 1 && scale > minScale) {
+            scale = clamp(scale * DECREASE_FACTOR);
+            decreases++;
+        } else if (load < HEADROOM && scale < maxScale) {
+            scale = clamp(scale + INCREASE_STEP);
+            increases++;
+        }
+    }
+
+    /**
+     * @return the factor to apply to the spawn budget, between the configured bounds
+     */
+    public float getScale() {
+        return scale;
+    }
+
+    /**
+     * @return the current load, above 1 if over budget
+     */
+    public float getLoad() {
+        float tickLoad = targetTickMs > 0 && smoothedTickMs > 0 ? smoothedTickMs / targetTickMs : 0;
+        float aiLoad = aiBudget > 0 ? aiCost / aiBudget : 0;
+        return Math.max(tickLoad, aiLoad);
+    }
+
+    /**
+     * @return the smoothed work per tick in milliseconds
+     */
+    public float getSmoothedTickMs() {
+        return Math.max(0, smoothedTickMs);
+    }
+
+    public float getAiCost() {
+        return aiCost;
+    }
+
+    /**
+     * @return how often the scale has been lowered
+     */
+    public long getDecreases() {
+        return decreases;
+    }
+
+    /**
+     * @return how often the scale has been raised
+     */
+    public long getIncreases() {
+        return increases;
+    }
+
+    public void reset() {
+        scale = maxScale;
+        smoothedTickMs = -1;
+        aiCost = 0;
+        sinceAdjust = 0;
+        decreases = 0;
+        increases = 0;
+    }
+
+    /**
+     * @return one line describing the state of the controller
+     */
+    public String describe() {
+        return String.format("scale %.2f (%.2f..%.2f), load %.2f, tick work %.1f/%.1f ms, AI %.0f/%.0f animals, "
+                        + "%d decreases, %d increases",
+                scale, minScale, maxScale, getLoad(), getSmoothedTickMs(), targetTickMs, aiCost, aiBudget,
+                decreases, increases);
+    }
+
+    private float clamp(float value) {
+        return Math.max(minScale, Math.min(maxScale, value));
+    }
+}
@@ -0,0 +1,152 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.spawn;
+
+import com.google.common.collect.ImmutableList;
+import org.joml.Vector3ic;
+import org.terasology.engine.world.WorldProvider;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.block.BlockManager;
+import org.terasology.engine.world.block.family.BlockFamily;
+import org.terasology.wildAnimals.component.WildAnimalSpawnComponent;
+import org.terasology.wildAnimals.species.Species;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The spawn rules of several species, compiled into sets of block ids so a chunk can be checked for all of them in a
+ * single pass, see {@link SpawnSiteScanner}. A {@link SpawnSiteCondition} is checked for the positions that fulfil
+ * the rule of a species.
+ * <p>
+ * Immutable once compiled, so it may be read from worker threads as long as the condition is thread safe.
+ */
+public final class SpawnRules {
+    private final List<Species> species;
+    private final BitSet[] groundIds;
+    private final int[] clearances;
+    private final int[] minHeights;
+    private final int[] maxHeights;
+    private final BitSet anyGroundIds = new BitSet();
+    private final BitSet penetrableIds = new BitSet();
+    private final int airId;
+    private final SpawnSiteCondition condition;
+
+    private SpawnRules(List<Species> species, int airId, SpawnSiteCondition condition) {
+        this.species = ImmutableList.copyOf(species);
+        this.groundIds = new BitSet[species.size()];
+        this.clearances = new int[species.size()];
+        this.minHeights = new int[species.size()];
+        this.maxHeights = new int[species.size()];
+        this.airId = airId;
+        this.condition = condition;
+    }
+
+    /**
+     * Compiles the rules given by the {@link WildAnimalSpawnComponent}s of the species.
+     * Has to be called on the main thread, once the blocks are registered.
+     *
+     * @param species the spawning species
+     * @param blockManager used to look up the ground blocks
+     * @param condition checked in addition to the rules, {@link SpawnSiteCondition#ANY} if there is none
+     */
+    public static SpawnRules compile(List<Species> species, BlockManager blockManager, SpawnSiteCondition condition) {
+        SpawnRules rules = new SpawnRules(species, id(blockManager.getBlock(BlockManager.AIR_ID)), condition);
+        for (Block block : blockManager.listRegisteredBlocks()) {
+            if (block.isPenetrable()) {
+                rules.penetrableIds.set(id(block));
+            }
+        }
+        for (int i = 0; i < species.size(); i++) {
+            WildAnimalSpawnComponent spawnRules = species.get(i).getSpawnRules();
+            BitSet ground = new BitSet();
+            for (String uri : spawnRules.groundBlocks) {
+                BlockFamily family = blockManager.getBlockFamily(uri);
+                if (family == null) {
+                    continue;
+                }
+                for (Block block : family.getBlocks()) {
+                    ground.set(id(block));
+                }
+            }
+            rules.groundIds[i] = ground;
+            rules.anyGroundIds.or(ground);
+            rules.clearances[i] = Math.max(1, spawnRules.clearance);
+            rules.minHeights[i] = spawnRules.minHeight;
+            rules.maxHeights[i] = spawnRules.maxHeight;
+        }
+        return rules;
+    }
+
+    static int id(Block block) {
+        return block.getId() & 0xFFFF;
+    }
+
+    /**
+     * @return the species of the rules, in the order of the rule indices
+     */
+    public List<Species> getSpecies() {
+        return species;
+    }
+
+    public int size() {
+        return species.size();
+    }
+
+    /**
+     * @return the index of the species' rule, or -1 if the species has none
+     */
+    public int indexOf(Species entry) {
+        return species.indexOf(entry);
+    }
+
+    /**
+     * A cheap check whether a block may be the ground of any site, before checking the rules one by one.
+     */
+    boolean isAnyGround(int blockId) {
+        return anyGroundIds.get(blockId);
+    }
+
+    boolean isPenetrable(int blockId) {
+        return penetrableIds.get(blockId);
+    }
+
+    boolean isAir(int blockId) {
+        return blockId == airId;
+    }
+
+    /**
+     * Checks a position against a rule and the condition, given the blocks around it.
+     *
+     * @param rule the index of the rule
+     * @param below the block below the position
+     * @param at the block at the position
+     * @param airAbove the number of air blocks directly above the position
+     * @param worldY the world height of the position
+     */
+    public boolean isSite(int rule, Block below, Block at, int airAbove, int worldY) {
+        return groundIds[rule].get(id(below))
+                && penetrableIds.get(id(at))
+                && airAbove >= clearances[rule] - 1
+                && worldY >= minHeights[rule]
+                && worldY <= maxHeights[rule]
+                && condition.test(species.get(rule), below, at, airAbove, worldY);
+    }
+
+    /**
+     * Checks a position of the current world against a rule and the condition. Has to be called on the main thread.
+     */
+    public boolean isSite(int rule, WorldProvider worldProvider, Vector3ic pos) {
+        Block below = worldProvider.getBlock(pos.x(), pos.y() - 1, pos.z());
+        Block at = worldProvider.getBlock(pos.x(), pos.y(), pos.z());
+        if (!groundIds[rule].get(id(below)) || !penetrableIds.get(id(at))) {
+            return false;
+        }
+        int airAbove = 0;
+        while (airAbove < clearances[rule] - 1
+                && isAir(id(worldProvider.getBlock(pos.x(), pos.y() + 1 + airAbove, pos.z())))) {
+            airAbove++;
+        }
+        return isSite(rule, below, at, airAbove, pos.y());
+    }
+}
@@ -0,0 +1,36 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.spawn;
+
+import org.terasology.engine.world.block.Block;
+import org.terasology.wildAnimals.species.Species;
+
+/**
+ * Decides whether an animal may be spawned at a position, in addition to the {@link SpawnRules} of its species.
+ * <p>
+ * The {@link SpawnSiteScanner} walks each column of a chunk from top to bottom, and only asks the condition about
+ * positions that already fulfil the rules of the species, handing it the blocks of the column around the position.
+ * Implementations never need to query the world themselves, so they keep the single pass over the chunk.
+ */
+@FunctionalInterface
+public interface SpawnSiteCondition {
+
+    /**
+     * Allows every site the spawn rules allow.
+     */
+    SpawnSiteCondition ANY = (species, below, at, airAbove, worldY) -> true;
+
+    /**
+     * Called from the scan worker threads if {@link org.terasology.wildAnimals.AnimalSpawnConfig#spawnScanThreads}
+     * is used, so it has to be thread safe.
+     *
+     * @param species the species to spawn
+     * @param below the block directly below the candidate position
+     * @param at the block at the candidate position
+     * @param airAbove the number of air blocks directly above the candidate position; it may not be counted any
+     *         further than the clearance of the species
+     * @param worldY the world height of the candidate position
+     * @return true if an animal of the species may be spawned at the candidate position
+     */
+    boolean test(Species species, Block below, Block at, int airAbove, int worldY);
+}
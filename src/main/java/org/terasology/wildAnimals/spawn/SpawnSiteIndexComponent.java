@@ -0,0 +1,52 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.spawn;
+
+import com.google.common.collect.Lists;
+import org.joml.Vector3i;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.gestalt.entitysystem.component.Component;
+
+import java.util.List;
+
+/**
+ * The spawn sites of one chunk, stored on an entity located in that chunk so it is saved and loaded along with it.
+ * Chunks scanned without finding any site have an empty one, so they are not scanned again when they are loaded.
+ * <p>
+ * The sites of all species are kept in one array, one segment per species: the sites of {@code species.get(i)} are
+ * the {@code siteCounts[i]} entries following those of the species before it.
+ */
+public class SpawnSiteIndexComponent implements Component<SpawnSiteIndexComponent> {
+    public Vector3i chunkPos = new Vector3i();
+    /**
+     * The species that have sites in the chunk.
+     */
+    public List<Prefab> species = Lists.newArrayList();
+    /**
+     * The number of sites of each species, in the order of {@link #species}.
+     */
+    public int[] siteCounts = new int[0];
+    /**
+     * The sites packed as by {@link SpawnSites#pack(int, int, int)}, each segment sorted ascending.
+     */
+    public int[] sites = new int[0];
+
+    /**
+     * @return the index of the first site of the species' segment
+     */
+    public int segmentStart(int speciesIndex) {
+        int start = 0;
+        for (int i = 0; i < speciesIndex; i++) {
+            start += siteCounts[i];
+        }
+        return start;
+    }
+
+    @Override
+    public void copyFrom(SpawnSiteIndexComponent other) {
+        this.chunkPos = new Vector3i(other.chunkPos);
+        this.species = Lists.newArrayList(other.species);
+        this.siteCounts = other.siteCounts.clone();
+        this.sites = other.sites.clone();
+    }
+}
@@ -0,0 +1,298 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.spawn;
+
+import org.joml.Vector3f;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.entitySystem.entity.EntityManager;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.engine.world.OnChangedBlock;
+import org.terasology.engine.world.WorldProvider;
+import org.terasology.engine.world.block.BlockComponent;
+import org.terasology.engine.world.chunks.ChunkProvider;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.wildAnimals.species.Species;
+import org.terasology.wildAnimals.system.WildAnimalsSpawnSystem;
+import org.terasology.wildAnimals.util.EntityRotation;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Remembers the spawn sites found in chunks, so animals can be spawned there again later without scanning the chunk
+ * anew.
+ * <p>
+ * The sites of each chunk are kept per species in a {@link SpawnSiteIndexComponent} on an entity in that chunk, so
+ * they are saved and loaded along with the chunk, and are kept up to date as blocks change. Every scanned chunk has
+ * such an entity, an empty one if it has no sites, so the {@link WildAnimalsSpawnSystem} only scans loaded chunks
+ * that have none, e.g. those saved before the index existed.
+ */
+@Share(value = SpawnSiteIndexSystem.class)
+@RegisterSystem(RegisterMode.AUTHORITY)
+public class SpawnSiteIndexSystem extends BaseComponentSystem {
+
+    @In
+    private EntityManager entityManager;
+
+    @In
+    private WorldProvider worldProvider;
+
+    @In
+    private ChunkProvider chunkProvider;
+
+    @In
+    private WildAnimalsSpawnSystem spawnSystem;
+
+    /**
+     * The loaded index entities, by the chunk whose sites they hold.
+     */
+    private final Map<Vector3i, EntityRef> indices = new HashMap<>();
+    /**
+     * The loaded index entities of the chunks that have any sites.
+     */
+    private final EntityRotation indexOrder = new EntityRotation();
+
+    private final Vector3i chunkPos = new Vector3i();
+    private final Vector3i position = new Vector3i();
+
+    @Override
+    public void shutdown() {
+        indices.clear();
+        indexOrder.clear();
+    }
+
+    /**
+     * Looks up the spawn sites of a loaded chunk.
+     *
+     * @param chunkPos the position of the chunk
+     * @param species the species to spawn
+     * @return a new buffer with the sites, empty if the chunk has none for the species or is not loaded
+     */
+    public SpawnSites getSpawnSites(Vector3ic chunkPos, Species species) {
+        SpawnSiteIndexComponent index = getIndex(chunkPos);
+        int speciesIndex = index != null ? index.species.indexOf(species.getPrefab()) : -1;
+        if (speciesIndex < 0 || !species.isSpawnable()) {
+            return new SpawnSites();
+        }
+        int start = index.segmentStart(speciesIndex);
+        return SpawnSites.of(index.sites, start, start + index.siteCounts[speciesIndex]);
+    }
+
+    /**
+     * @return whether the chunk is loaded and has spawn sites
+     */
+    public boolean hasSpawnSites(Vector3ic chunkPos) {
+        SpawnSiteIndexComponent index = getIndex(chunkPos);
+        return index != null && index.sites.length > 0;
+    }
+
+    /**
+     * Goes round-robin through the loaded chunks that have spawn sites, so callers can look at a few of them per tick.
+     *
+     * @return the position of the next chunk, or null if no loaded chunk has spawn sites
+     */
+    public Vector3ic nextIndexedChunk() {
+        if (indexOrder.size() == 0) {
+            return null;
+        }
+        SpawnSiteIndexComponent index = indexOrder.next().getComponent(SpawnSiteIndexComponent.class);
+        return index != null ? index.chunkPos : null;
+    }
+
+    /**
+     * @return whether the chunk is loaded and its sites are known, either from a scan or from the save
+     */
+    public boolean isScanned(Vector3ic chunkPos) {
+        return indices.containsKey(chunkPos);
+    }
+
+    /**
+     * @return the number of loaded chunks that have spawn sites
+     */
+    public int getIndexedChunkCount() {
+        return indexOrder.size();
+    }
+
+    /**
+     * Replaces the spawn sites of a chunk with the result of a full scan.
+     *
+     * @param rules the rules the chunk was scanned with
+     * @param sites the sites found for each rule, in the order of the rule indices
+     */
+    public void setSpawnSites(Vector3ic chunkPos, SpawnRules rules, SpawnSites[] sites) {
+        // the chunk may have been unloaded while it was scanned on a worker thread
+        if (!chunkProvider.isChunkReady(chunkPos)) {
+            return;
+        }
+        SpawnSiteIndexComponent found = new SpawnSiteIndexComponent();
+        found.chunkPos.set(chunkPos);
+        found.siteCounts = new int[sites.length];
+        int total = 0;
+        for (SpawnSites speciesSites : sites) {
+            total += speciesSites.size();
+        }
+        found.sites = new int[total];
+        int speciesCount = 0;
+        int start = 0;
+        for (int rule = 0; rule < sites.length; rule++) {
+            int count = sites[rule].size();
+            if (count == 0) {
+                continue;
+            }
+            int[] sorted = sites[rule].toArray();
+            Arrays.sort(sorted);
+            System.arraycopy(sorted, 0, found.sites, start, count);
+            found.species.add(rules.getSpecies().get(rule).getPrefab());
+            found.siteCounts[speciesCount++] = count;
+            start += count;
+        }
+        found.siteCounts = Arrays.copyOf(found.siteCounts, speciesCount);
+
+        EntityRef entity = indices.get(chunkPos);
+        if (entity != null && entity.hasComponent(SpawnSiteIndexComponent.class)) {
+            entity.saveComponent(found);
+            updateOrder(entity, found);
+        } else {
+            LocationComponent location = new LocationComponent();
+            location.setWorldPosition(new Vector3f(
+                    (chunkPos.x() + 0.5f) * Chunks.SIZE_X,
+                    (chunkPos.y() + 0.5f) * Chunks.SIZE_Y,
+                    (chunkPos.z() + 0.5f) * Chunks.SIZE_Z));
+            entityManager.create(found, location);
+        }
+    }
+
+    /**
+     * Takes over the index of a chunk that was scanned or loaded with its chunk.
+     */
+    @ReceiveEvent
+    public void onIndexActivated(OnActivatedComponent event, EntityRef entity, SpawnSiteIndexComponent index) {
+        indices.put(new Vector3i(index.chunkPos), entity);
+        updateOrder(entity, index);
+    }
+
+    /**
+     * Forgets the index when its chunk is unloaded, it is loaded again with the chunk.
+     */
+    @ReceiveEvent
+    public void onIndexDeactivated(BeforeDeactivateComponent event, EntityRef entity, SpawnSiteIndexComponent index) {
+        indices.remove(index.chunkPos);
+        indexOrder.remove(entity);
+    }
+
+    /**
+     * A block change affects the sites at, directly above and directly below the block.
+     */
+    @ReceiveEvent(components = BlockComponent.class)
+    public void onBlockChanged(OnChangedBlock event, EntityRef blockEntity) {
+        Vector3ic blockPos = event.getBlockPosition();
+        for (int dy = -1; dy <= 1; dy++) {
+            position.set(blockPos.x(), blockPos.y() + dy, blockPos.z());
+            if (worldProvider.isBlockRelevant(position)) {
+                updateSite(position);
+            }
+        }
+    }
+
+    /**
+     * Checks a site of an indexed chunk again. Chunks without an index are left alone, their scan will find the site.
+     */
+    private void updateSite(Vector3ic pos) {
+        chunkPos.set(
+                Math.floorDiv(pos.x(), Chunks.SIZE_X),
+                Math.floorDiv(pos.y(), Chunks.SIZE_Y),
+                Math.floorDiv(pos.z(), Chunks.SIZE_Z));
+        EntityRef entity = indices.get(chunkPos);
+        SpawnSiteIndexComponent index = entity != null ? entity.getComponent(SpawnSiteIndexComponent.class) : null;
+        if (index == null) {
+            return;
+        }
+        int site = SpawnSites.pack(
+                pos.x() - chunkPos.x * Chunks.SIZE_X,
+                pos.y() - chunkPos.y * Chunks.SIZE_Y,
+                pos.z() - chunkPos.z * Chunks.SIZE_Z);
+
+        SpawnRules rules = spawnSystem.getSpawnRules();
+        boolean changed = false;
+        for (int rule = 0; rule < rules.size(); rule++) {
+            boolean valid = rules.isSite(rule, worldProvider, pos);
+            changed |= updateSegment(index, rules.getSpecies().get(rule).getPrefab(), site, valid);
+        }
+        if (changed) {
+            entity.saveComponent(index);
+            updateOrder(entity, index);
+        }
+    }
+
+    /**
+     * Adds or removes a site in the segment of a species.
+     *
+     * @return whether the index changed
+     */
+    private static boolean updateSegment(SpawnSiteIndexComponent index, Prefab prefab, int site, boolean valid) {
+        int speciesIndex = index.species.indexOf(prefab);
+        if (speciesIndex < 0) {
+            if (!valid) {
+                return false;
+            }
+            speciesIndex = index.species.size();
+            index.species.add(prefab);
+            index.siteCounts = Arrays.copyOf(index.siteCounts, speciesIndex + 1);
+        }
+        int start = index.segmentStart(speciesIndex);
+        int i = Arrays.binarySearch(index.sites, start, start + index.siteCounts[speciesIndex], site);
+        if (valid && i < 0) {
+            int insertAt = -i - 1;
+            int[] sites = new int[index.sites.length + 1];
+            System.arraycopy(index.sites, 0, sites, 0, insertAt);
+            sites[insertAt] = site;
+            System.arraycopy(index.sites, insertAt, sites, insertAt + 1, index.sites.length - insertAt);
+            index.sites = sites;
+            index.siteCounts[speciesIndex]++;
+        } else if (!valid && i >= 0) {
+            int[] sites = new int[index.sites.length - 1];
+            System.arraycopy(index.sites, 0, sites, 0, i);
+            System.arraycopy(index.sites, i + 1, sites, i, sites.length - i);
+            index.sites = sites;
+            if (--index.siteCounts[speciesIndex] == 0) {
+                index.species.remove(speciesIndex);
+                int[] siteCounts = new int[index.siteCounts.length - 1];
+                System.arraycopy(index.siteCounts, 0, siteCounts, 0, speciesIndex);
+                System.arraycopy(index.siteCounts, speciesIndex + 1, siteCounts, speciesIndex,
+                        siteCounts.length - speciesIndex);
+                index.siteCounts = siteCounts;
+            }
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Only chunks with sites take part in {@link #nextIndexedChunk()}.
+     */
+    private void updateOrder(EntityRef entity, SpawnSiteIndexComponent index) {
+        if (index.sites.length > 0) {
+            indexOrder.add(entity);
+        } else {
+            indexOrder.remove(entity);
+        }
+    }
+
+    private SpawnSiteIndexComponent getIndex(Vector3ic pos) {
+        EntityRef entity = indices.get(pos);
+        return entity != null ? entity.getComponent(SpawnSiteIndexComponent.class) : null;
+    }
+}
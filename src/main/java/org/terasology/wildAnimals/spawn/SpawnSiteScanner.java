@@ -0,0 +1,63 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.spawn;
+
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.chunks.Chunks;
+
+/**
+ * Finds the spawn sites of several species in a chunk by walking each column from top to bottom once.
+ * <p>
+ * Scanning only reads from the given {@link ChunkSnapshot} and {@link SpawnRules}, so it can run on a worker thread
+ * as long as the {@link SpawnSiteCondition} of the rules is thread safe.
+ */
+public final class SpawnSiteScanner {
+
+    private SpawnSiteScanner() {
+    }
+
+    /**
+     * Collects every position of the chunk that is a site for any of the rules.
+     *
+     * @param snapshot the chunk to scan
+     * @param rules the spawn rules to check
+     * @param out one buffer per rule, in the order of the rule indices, which the found sites are written to; they
+     *         are cleared first
+     */
+    public static void scan(ChunkSnapshot snapshot, SpawnRules rules, SpawnSites[] out) {
+        for (SpawnSites sites : out) {
+            sites.clear();
+        }
+        int baseY = snapshot.getChunkPos().y() * Chunks.SIZE_Y;
+        for (int z = 0; z < Chunks.SIZE_Z; z++) {
+            for (int x = 0; x < Chunks.SIZE_X; x++) {
+                // the air above the chunk is not followed any further up, which may only miss a few sites
+                int airAbove = rules.isAir(SpawnRules.id(snapshot.getBlock(x, Chunks.SIZE_Y, z))) ? 1 : 0;
+                Block at = snapshot.getBlock(x, Chunks.SIZE_Y - 1, z);
+                for (int y = Chunks.SIZE_Y - 1; y >= 0; y--) {
+                    Block below = snapshot.getBlock(x, y - 1, z);
+                    if (rules.isAnyGround(SpawnRules.id(below)) && rules.isPenetrable(SpawnRules.id(at))) {
+                        for (int rule = 0; rule < out.length; rule++) {
+                            if (rules.isSite(rule, below, at, airAbove, baseY + y)) {
+                                out[rule].add(x, y, z);
+                            }
+                        }
+                    }
+                    airAbove = rules.isAir(SpawnRules.id(at)) ? airAbove + 1 : 0;
+                    at = below;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return one empty buffer per rule, to be passed to {@link #scan(ChunkSnapshot, SpawnRules, SpawnSites[])}
+     */
+    public static SpawnSites[] createBuffers(SpawnRules rules) {
+        SpawnSites[] buffers = new SpawnSites[rules.size()];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new SpawnSites();
+        }
+        return buffers;
+    }
+}
@@ -0,0 +1,132 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.spawn;
+
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.world.chunks.Chunks;
+
+import java.util.Arrays;
+
+/**
+ * Growable buffer of spawn sites within a single chunk.
+ * Each site is stored as one int packing its chunk-relative position, so collecting sites does not allocate
+ * per hit.
+ */
+public class SpawnSites {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] sites;
+    private int size;
+
+    public SpawnSites() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public SpawnSites(int initialCapacity) {
+        sites = new int[Math.max(initialCapacity, 1)];
+    }
+
+    public static int pack(int x, int y, int z) {
+        return (y * Chunks.SIZE_Z + z) * Chunks.SIZE_X + x;
+    }
+
+    public static int unpackX(int site) {
+        return site % Chunks.SIZE_X;
+    }
+
+    public static int unpackY(int site) {
+        return site / (Chunks.SIZE_X * Chunks.SIZE_Z);
+    }
+
+    public static int unpackZ(int site) {
+        return (site / Chunks.SIZE_X) % Chunks.SIZE_Z;
+    }
+
+    /**
+     * Converts a packed site back into a world position.
+     *
+     * @param site the packed chunk-relative position
+     * @param chunkPos the position of the chunk the site belongs to
+     * @param dest the vector to store the world position in
+     * @return dest
+     */
+    public static Vector3i toWorldPosition(int site, Vector3ic chunkPos, Vector3i dest) {
+        return dest.set(
+                chunkPos.x() * Chunks.SIZE_X + unpackX(site),
+                chunkPos.y() * Chunks.SIZE_Y + unpackY(site),
+                chunkPos.z() * Chunks.SIZE_Z + unpackZ(site));
+    }
+
+    /**
+     * @return a new buffer holding the same sites, sized to fit them
+     */
+    public SpawnSites copy() {
+        SpawnSites copy = new SpawnSites(size);
+        System.arraycopy(sites, 0, copy.sites, 0, size);
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * @param packed sites as returned by {@link #toArray()}
+     * @return a new buffer holding the given sites
+     */
+    public static SpawnSites of(int[] packed) {
+        return of(packed, 0, packed.length);
+    }
+
+    /**
+     * @param packed sites as returned by {@link #toArray()}
+     * @param from the index of the first site to take, inclusive
+     * @param to the index of the last site to take, exclusive
+     * @return a new buffer holding the given range of sites
+     */
+    public static SpawnSites of(int[] packed, int from, int to) {
+        SpawnSites spawnSites = new SpawnSites(to - from);
+        System.arraycopy(packed, from, spawnSites.sites, 0, to - from);
+        spawnSites.size = to - from;
+        return spawnSites;
+    }
+
+    /**
+     * @return the packed sites, in the order they were added
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(sites, size);
+    }
+
+    public void add(int x, int y, int z) {
+        addPacked(pack(x, y, z));
+    }
+
+    public void addPacked(int site) {
+        if (size == sites.length) {
+            sites = Arrays.copyOf(sites, size * 2);
+        }
+        sites[size++] = site;
+    }
+
+    public int get(int index) {
+        return sites[index];
+    }
+
+    /**
+     * Removes the site at the given index by moving the last site into its place.
+     *
+     * @return the removed site
+     */
+    public int swapRemove(int index) {
+        int site = sites[index];
+        sites[index] = sites[--size];
+        return site;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,100 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.species;
+
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.rendering.assets.texture.TextureRegionAsset;
+import org.terasology.engine.world.block.BlockUri;
+import org.terasology.wildAnimals.Death.DeathAnimation;
+import org.terasology.wildAnimals.component.WildAnimalSpawnComponent;
+
+import java.util.Set;
+
+/**
+ * What all WildAnimals of one prefab share, resolved once by the {@link SpeciesRegistry}.
+ * Each growth stage of an animal is a species of its own here, sharing the name of its other stages.
+ */
+public final class Species {
+    private final int id;
+    private final Prefab prefab;
+    private final String name;
+    private final TextureRegionAsset<?> icon;
+    private final DeathAnimation deathAnimation;
+    private final Set<BlockUri> luringItems;
+    private final WildAnimalSpawnComponent spawnRules;
+    private final String nextStageUri;
+    private Species nextStage;
+
+    Species(int id, Prefab prefab, String name, TextureRegionAsset<?> icon, DeathAnimation deathAnimation,
+            Set<BlockUri> luringItems, WildAnimalSpawnComponent spawnRules, String nextStageUri) {
+        this.id = id;
+        this.prefab = prefab;
+        this.name = name;
+        this.icon = icon;
+        this.deathAnimation = deathAnimation;
+        this.luringItems = luringItems;
+        this.spawnRules = spawnRules;
+        this.nextStageUri = nextStageUri;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public Prefab getPrefab() {
+        return prefab;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public TextureRegionAsset<?> getIcon() {
+        return icon;
+    }
+
+    /**
+     * @return the death animation of the prefab, or null if it has no DieComponent
+     */
+    public DeathAnimation getDeathAnimation() {
+        return deathAnimation;
+    }
+
+    /**
+     * @return the blocks luring the animal, or null if the prefab has no LureComponent
+     */
+    public Set<BlockUri> getLuringItems() {
+        return luringItems;
+    }
+
+    /**
+     * @return the spawn rules of the prefab, or null if it has no WildAnimalSpawnComponent
+     */
+    public WildAnimalSpawnComponent getSpawnRules() {
+        return spawnRules;
+    }
+
+    public boolean isSpawnable() {
+        return spawnRules != null && spawnRules.weight > 0;
+    }
+
+    String getNextStageUri() {
+        return nextStageUri;
+    }
+
+    /**
+     * @return the growth stage the animal grows into, or null if this is its last stage
+     */
+    public Species getNextStage() {
+        return nextStage;
+    }
+
+    void setNextStage(Species nextStage) {
+        this.nextStage = nextStage;
+    }
+
+    @Override
+    public String toString() {
+        return id + ":" + prefab.getUrn();
+    }
+}
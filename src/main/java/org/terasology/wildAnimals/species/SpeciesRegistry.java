@@ -0,0 +1,171 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.species;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.entitySystem.prefab.PrefabManager;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.engine.utilities.Assets;
+import org.terasology.engine.world.block.BlockUri;
+import org.terasology.wildAnimals.Death.DeathAnimation;
+import org.terasology.wildAnimals.Death.DieComponent;
+import org.terasology.wildAnimals.component.LureComponent;
+import org.terasology.wildAnimals.component.WildAnimalComponent;
+import org.terasology.wildAnimals.component.WildAnimalGrowthComponent;
+import org.terasology.wildAnimals.component.WildAnimalSpawnComponent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Knows every prefab with a {@link WildAnimalComponent} as a {@link Species}, numbered by their URNs.
+ * <p>
+ * Built when first needed and again once one of its prefabs has been disposed, e.g. because the module environment
+ * changed. Call {@link #rebuild()} after changing prefabs in place.
+ */
+@Share(value = SpeciesRegistry.class)
+@RegisterSystem(RegisterMode.ALWAYS)
+public class SpeciesRegistry extends BaseComponentSystem {
+
+    @In
+    private PrefabManager prefabManager;
+
+    private List<Species> species = ImmutableList.of();
+    private List<Species> spawnableSpecies = ImmutableList.of();
+    private final Map<Prefab, Species> speciesByPrefab = new HashMap<>();
+    private boolean built;
+
+    @Override
+    public void initialise() {
+        rebuild();
+    }
+
+    @Override
+    public void shutdown() {
+        species = ImmutableList.of();
+        spawnableSpecies = ImmutableList.of();
+        speciesByPrefab.clear();
+        built = false;
+    }
+
+    /**
+     * Resolves all species from their prefabs again.
+     */
+    public void rebuild() {
+        List<Prefab> prefabs = new ArrayList<>(prefabManager.listPrefabs(WildAnimalComponent.class));
+        prefabs.sort(Comparator.comparing(prefab -> prefab.getUrn().toString()));
+
+        ImmutableList.Builder<Species> builder = ImmutableList.builder();
+        ImmutableList.Builder<Species> spawnableBuilder = ImmutableList.builder();
+        speciesByPrefab.clear();
+        for (int id = 0; id < prefabs.size(); id++) {
+            Species entry = createSpecies(id, prefabs.get(id));
+            builder.add(entry);
+            if (entry.isSpawnable()) {
+                spawnableBuilder.add(entry);
+            }
+            speciesByPrefab.put(entry.getPrefab(), entry);
+        }
+        species = builder.build();
+        spawnableSpecies = spawnableBuilder.build();
+        built = true;
+
+        for (Species entry : species) {
+            if (entry.getNextStageUri() != null) {
+                Assets.getPrefab(entry.getNextStageUri())
+                        .map(speciesByPrefab::get)
+                        .ifPresent(entry::setNextStage);
+            }
+        }
+    }
+
+    /**
+     * @return the species with the given id, or null if there is none
+     */
+    public Species getSpecies(int id) {
+        List<Species> all = getAllSpecies();
+        return id >= 0 && id < all.size() ? all.get(id) : null;
+    }
+
+    /**
+     * @return the species of the prefab, or null if it is no WildAnimal prefab
+     */
+    public Species getSpecies(Prefab prefab) {
+        getAllSpecies();
+        return speciesByPrefab.get(prefab);
+    }
+
+    /**
+     * Looks up the species of an animal in its current growth stage.
+     * The id is remembered on the animal's {@link WildAnimalComponent}, so later lookups skip the prefab.
+     *
+     * @return the species of the animal, or null if it is no WildAnimal or has no prefab
+     */
+    public Species getSpecies(EntityRef animal) {
+        WildAnimalComponent wildAnimalComponent = animal.getComponent(WildAnimalComponent.class);
+        if (wildAnimalComponent == null) {
+            return null;
+        }
+        Prefab prefab = wildAnimalComponent.stagePrefab != null
+                ? wildAnimalComponent.stagePrefab : animal.getParentPrefab();
+        Species cached = getSpecies(wildAnimalComponent.speciesId);
+        if (cached != null && cached.getPrefab() == prefab) {
+            return cached;
+        }
+        Species entry = getSpecies(prefab);
+        wildAnimalComponent.speciesId = entry != null ? entry.getId() : -1;
+        return entry;
+    }
+
+    /**
+     * @return all species, ordered by id
+     */
+    public List<Species> getAllSpecies() {
+        if (!built || (!species.isEmpty() && species.get(0).getPrefab().isDisposed())) {
+            rebuild();
+        }
+        return species;
+    }
+
+    /**
+     * @return the species spawning in newly generated chunks
+     */
+    public List<Species> getSpawnableSpecies() {
+        getAllSpecies();
+        return spawnableSpecies;
+    }
+
+    private static Species createSpecies(int id, Prefab prefab) {
+        WildAnimalComponent wildAnimalComponent = prefab.getComponent(WildAnimalComponent.class);
+
+        DieComponent dieComponent = prefab.getComponent(DieComponent.class);
+        DeathAnimation deathAnimation = dieComponent != null ? DeathAnimation.of(dieComponent.animationPool) : null;
+
+        LureComponent lureComponent = prefab.getComponent(LureComponent.class);
+        Set<BlockUri> luringItems = null;
+        if (lureComponent != null) {
+            ImmutableSet.Builder<BlockUri> builder = ImmutableSet.builder();
+            for (String item : lureComponent.luringItems) {
+                builder.add(new BlockUri(item));
+            }
+            luringItems = builder.build();
+        }
+
+        WildAnimalGrowthComponent growthComponent = prefab.getComponent(WildAnimalGrowthComponent.class);
+        String nextStageUri = growthComponent != null ? growthComponent.nextStagePrefab : null;
+
+        return new Species(id, prefab, wildAnimalComponent.name, wildAnimalComponent.icon, deathAnimation, luringItems,
+                prefab.getComponent(WildAnimalSpawnComponent.class), nextStageUri);
+    }
+}
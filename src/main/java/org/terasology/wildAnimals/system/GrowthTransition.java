@@ -0,0 +1,83 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.system;
+
+import com.google.common.collect.ImmutableSet;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.metadata.ComponentLibrary;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.logic.behavior.BehaviorComponent;
+import org.terasology.engine.logic.common.DisplayNameComponent;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.network.NetworkComponent;
+import org.terasology.gestalt.entitysystem.component.Component;
+import org.terasology.wildAnimals.component.WildAnimalComponent;
+import org.terasology.wildAnimals.flock.FlockMemberComponent;
+import org.terasology.wildAnimals.flock.WildAnimalsFlockSystem;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Turns an animal of one growth stage into the next stage in place, by swapping the components the stage prefabs
+ * define. The entity keeps its id, location, name, network identity and seed. Flock members also keep their behavior,
+ * which the {@link WildAnimalsFlockSystem} has given them.
+ */
+final class GrowthTransition {
+    /**
+     * Components describing the individual animal rather than its stage.
+     */
+    private static final Set<Class<? extends Component>> KEPT_COMPONENTS = ImmutableSet.of(
+            LocationComponent.class,
+            NetworkComponent.class,
+            DisplayNameComponent.class
+    );
+
+    private final Prefab nextStage;
+    private final List<Class<? extends Component>> removedComponents = new ArrayList<>();
+    private final List<Component> nextStageComponents = new ArrayList<>();
+
+    GrowthTransition(Prefab currentStage, Prefab nextStage) {
+        this.nextStage = nextStage;
+        Set<Class<? extends Component>> nextStageTypes = new HashSet<>();
+        for (Component component : nextStage.iterateComponents()) {
+            if (!KEPT_COMPONENTS.contains(component.getClass())) {
+                nextStageTypes.add(component.getClass());
+                nextStageComponents.add(component);
+            }
+        }
+        if (currentStage != null) {
+            for (Component component : currentStage.iterateComponents()) {
+                Class<? extends Component> type = component.getClass();
+                if (!KEPT_COMPONENTS.contains(type) && !nextStageTypes.contains(type)) {
+                    removedComponents.add(type);
+                }
+            }
+        }
+    }
+
+    void apply(EntityRef entity, ComponentLibrary componentLibrary) {
+        // members run the flock's member tree, and the next stage's own tree would have them wander off on their own
+        boolean flockMember = entity.hasComponent(FlockMemberComponent.class);
+        WildAnimalComponent currentWildAnimal = entity.getComponent(WildAnimalComponent.class);
+        long seed = currentWildAnimal != null ? currentWildAnimal.seed : 0;
+        for (Class<? extends Component> type : removedComponents) {
+            if (!(flockMember && type == BehaviorComponent.class)) {
+                entity.removeComponent(type);
+            }
+        }
+        for (Component prefabComponent : nextStageComponents) {
+            if (flockMember && prefabComponent instanceof BehaviorComponent) {
+                continue;
+            }
+            Component component = componentLibrary.copy(prefabComponent);
+            if (component instanceof WildAnimalComponent) {
+                ((WildAnimalComponent) component).stagePrefab = nextStage;
+                ((WildAnimalComponent) component).seed = seed;
+            }
+            entity.addOrSaveComponent(component);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.system;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.logic.characters.CharacterHeldItemComponent;
+import org.terasology.engine.registry.Share;
+import org.terasology.engine.world.block.BlockUri;
+import org.terasology.engine.world.block.items.BlockItemComponent;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.module.inventory.events.InventorySlotChangedEvent;
+import org.terasology.wildAnimals.component.LureComponent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps track of the block each character is holding, so animals deciding whether they are lured do not each have to
+ * follow the character's held item to its block family.
+ * The held block is only worked out again when the character's selection or inventory changes.
+ * <p>
+ * Also resolves the luring items of {@link LureComponent}s that do not belong to a species, once per list of items.
+ */
+@Share(value = LureSystem.class)
+@RegisterSystem(RegisterMode.AUTHORITY)
+public class LureSystem extends BaseComponentSystem {
+
+    /**
+     * The URI of the block family held by each character, null if the character holds no block.
+     */
+    private final Map<EntityRef, BlockUri> heldBlocks = new HashMap<>();
+    /**
+     * The luring items resolved so far, by the list of items they were resolved from.
+     */
+    private final Map<List<String>, Set<BlockUri>> luringItems = new HashMap<>();
+
+    @Override
+    public void shutdown() {
+        heldBlocks.clear();
+        luringItems.clear();
+    }
+
+    /**
+     * @param items the URIs of the block families luring an animal, see {@link LureComponent#luringItems}
+     * @return the URIs of the block families, resolved once per list of items
+     */
+    public Set<BlockUri> getLuringItems(List<String> items) {
+        Set<BlockUri> resolved = luringItems.get(items);
+        if (resolved == null) {
+            ImmutableSet.Builder<BlockUri> builder = ImmutableSet.builder();
+            for (String item : items) {
+                builder.add(new BlockUri(item));
+            }
+            resolved = builder.build();
+            // keyed by a copy, as the component's list may still change
+            luringItems.put(ImmutableList.copyOf(items), resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * @param character the character to check
+     * @return the URI of the block family the character is holding, or null if it holds no block
+     */
+    public BlockUri getHeldBlock(EntityRef character) {
+        BlockUri heldBlock = heldBlocks.get(character);
+        if (heldBlock == null && !heldBlocks.containsKey(character)) {
+            CharacterHeldItemComponent characterHeldItemComponent = character.getComponent(CharacterHeldItemComponent.class);
+            if (characterHeldItemComponent == null) {
+                return null;
+            }
+            heldBlock = updateHeldBlock(character, characterHeldItemComponent);
+        }
+        return heldBlock;
+    }
+
+    @ReceiveEvent
+    public void onHeldItemActivated(OnActivatedComponent event, EntityRef character, CharacterHeldItemComponent characterHeldItemComponent) {
+        updateHeldBlock(character, characterHeldItemComponent);
+    }
+
+    @ReceiveEvent
+    public void onHeldItemChanged(OnChangedComponent event, EntityRef character, CharacterHeldItemComponent characterHeldItemComponent) {
+        updateHeldBlock(character, characterHeldItemComponent);
+    }
+
+    /**
+     * The selected slot may have been filled, emptied or used up without the selection itself changing.
+     */
+    @ReceiveEvent
+    public void onInventorySlotChanged(InventorySlotChangedEvent event, EntityRef character, CharacterHeldItemComponent characterHeldItemComponent) {
+        updateHeldBlock(character, characterHeldItemComponent);
+    }
+
+    @ReceiveEvent
+    public void onHeldItemDeactivated(BeforeDeactivateComponent event, EntityRef character, CharacterHeldItemComponent characterHeldItemComponent) {
+        heldBlocks.remove(character);
+    }
+
+    private BlockUri updateHeldBlock(EntityRef character, CharacterHeldItemComponent characterHeldItemComponent) {
+        EntityRef heldItem = characterHeldItemComponent.selectedItem;
+        BlockItemComponent blockItemComponent = heldItem != null ? heldItem.getComponent(BlockItemComponent.class) : null;
+        BlockUri heldBlock = null;
+        if (blockItemComponent != null && blockItemComponent.blockFamily != null) {
+            heldBlock = blockItemComponent.blockFamily.getURI();
+        }
+        heldBlocks.put(character, heldBlock);
+        return heldBlock;
+    }
+}
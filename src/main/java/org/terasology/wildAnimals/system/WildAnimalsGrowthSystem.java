@@ -2,23 +2,39 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.wildAnimals.system;
 
-import org.joml.Vector3f;
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.core.Time;
 import org.terasology.engine.entitySystem.entity.EntityManager;
 import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
 import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.prefab.Prefab;
 import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
 import org.terasology.engine.entitySystem.systems.RegisterMode;
 import org.terasology.engine.entitySystem.systems.RegisterSystem;
-import org.terasology.engine.logic.delay.DelayManager;
-import org.terasology.engine.logic.delay.DelayedActionTriggeredEvent;
-import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
 import org.terasology.engine.registry.In;
-import org.terasology.engine.utilities.random.FastRandom;
-import org.terasology.engine.utilities.random.Random;
+import org.terasology.engine.registry.Share;
+import org.terasology.engine.utilities.Assets;
+import org.terasology.engine.world.WorldProvider;
 import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.wildAnimals.AnimalGrowthConfig;
 import org.terasology.wildAnimals.component.WildAnimalComponent;
 import org.terasology.wildAnimals.component.WildAnimalGrowthComponent;
 import org.terasology.wildAnimals.event.AnimalGrowthEvent;
+import org.terasology.wildAnimals.metrics.Histogram;
+import org.terasology.wildAnimals.metrics.WildlifeMetricsSystem;
+import org.terasology.wildAnimals.species.Species;
+import org.terasology.wildAnimals.species.SpeciesRegistry;
+import org.terasology.wildAnimals.util.EntitySchedule;
+import org.terasology.wildAnimals.util.WildlifeRandom;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
 
 /**
  * System handling animals changing into other animals.
@@ -28,8 +44,21 @@ import org.terasology.wildAnimals.event.AnimalGrowthEvent;
  * giving the next prefab in the chain, along with the range of time
  * to spend in this prefab.  At a random time within the specified
  * range (since the growth component was activated, typically
- * immediately on spawning), the existing animal is deleted and
- * replaced with a freshly spawned instance of the new prefab.
+ * immediately on spawning), the existing animal is turned into the
+ * new prefab in place: components of the old stage's prefab which
+ * the new one lacks are removed, and the new prefab's components
+ * are added or replace the old ones.  The entity keeps its id,
+ * location, display name and network identity.
+ *
+ * The time within the range is drawn from a random stream of the
+ * animal and its stage, derived from the seed the animal got when it
+ * spawned, so the same world grows the same way every time. Animals
+ * without a seed, e.g. those spawned by other modules, are given one
+ * the first time they are scheduled.
+ *
+ * Animals due to grow are kept in a schedule ordered by their growth
+ * time and are grown in batches of at most
+ * {@link AnimalGrowthConfig#maxGrowthTransitionsPerTick} per tick.
  *
  * <hr>
  *
@@ -60,33 +89,183 @@ import org.terasology.wildAnimals.event.AnimalGrowthEvent;
  *
  * The final prefab, lizard.prefab, has no growth component.
  */
+@Share(value = WildAnimalsGrowthSystem.class)
 @RegisterSystem(RegisterMode.AUTHORITY)
-public class WildAnimalsGrowthSystem extends BaseComponentSystem {
+public class WildAnimalsGrowthSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
 
-    /** Unique action ID required by {@code DelayManager.addDelayedAction}. */
-    private static final String GROWTH_ID = "WildAnimals:Growth";
+    private static final Logger logger = LoggerFactory.getLogger(WildAnimalsGrowthSystem.class);
 
-    @In
-    private DelayManager delayManager;
+    private AnimalGrowthConfig config;
 
     @In
     private EntityManager entityManager;
 
-    private Random random = new FastRandom();
+    @In
+    private Time time;
+
+    @In
+    private SpeciesRegistry speciesRegistry;
+
+    @In
+    private WorldProvider worldProvider;
+
+    @In
+    private WildlifeMetricsSystem metrics;
+
+    /** The stream the seeds of animals spawned without one are drawn from. */
+    private SplittableRandom unseededAnimals;
+    private Histogram transitionsPerTick;
+
+    /** Animals with a growth component, keyed on their growth time. */
+    private final EntitySchedule pendingGrowths = new EntitySchedule();
+
+    /** Transitions between stage prefabs, by current stage and next stage. */
+    private final Table<Prefab, Prefab, GrowthTransition> transitions = HashBasedTable.create();
+
+    @Override
+    public void initialise() {
+        if (config == null) {
+            config = new AnimalGrowthConfig();
+        }
+        unseededAnimals = new SplittableRandom(WildlifeRandom.seedOf(worldProvider.getSeed()));
+        transitions.clear();
+        transitionsPerTick = metrics.histogram("growth.transitionsPerTick");
+        metrics.gauge("growth.pending", this::getPendingGrowthCount);
+    }
+
+    @Override
+    public void shutdown() {
+        pendingGrowths.clear();
+        transitions.clear();
+    }
+
+    public void setConfig(AnimalGrowthConfig configuration) {
+        config = configuration;
+    }
+
+    /**
+     * @return the number of animals waiting to grow into their next stage
+     */
+    public int getPendingGrowthCount() {
+        return pendingGrowths.size();
+    }
 
-    /** Start the growth timer.  Called on activation of the animal's {@code WildAnimalGrowthComponent}. */
+    /** Grows the animals whose growth time has passed, up to the configured number per tick. */
+    @Override
+    public void update(float delta) {
+        long start = System.nanoTime();
+        long currentTime = time.getGameTimeInMs();
+        int grown = 0;
+        while (grown < config.maxGrowthTransitionsPerTick) {
+            EntityRef entityRef = pendingGrowths.pollDue(currentTime);
+            if (entityRef == null) {
+                break;
+            }
+            grow(entityRef);
+            grown++;
+        }
+        // only ticks with growth are recorded, so the quiet ones do not hide the bursts
+        if (grown > 0) {
+            transitionsPerTick.record(grown);
+        }
+        metrics.recordTickWork(start);
+    }
+
+    /** Start the growth timer.  Called on activation of the animal's {@code WildAnimalGrowthComponent}, including on load. */
     @ReceiveEvent(components = {WildAnimalComponent.class})
     public void onGrowthComponentActivated(OnActivatedComponent event, EntityRef entityRef, WildAnimalGrowthComponent growthComponent) {
-      long randomTime = random.nextLong(growthComponent.minGrowthTime, growthComponent.maxGrowthTime);
-      delayManager.addDelayedAction(entityRef, GROWTH_ID, randomTime);
+        scheduleGrowth(entityRef, growthComponent);
     }
 
-    /** Execute the next growth stage.  Called when the growth timer expires. */
+    /** Restart or move the growth timer, e.g. when the animal entered a new stage which grows again. */
     @ReceiveEvent(components = {WildAnimalComponent.class})
-    public void onGrowth(DelayedActionTriggeredEvent event, EntityRef entityRef, WildAnimalGrowthComponent growthComponent) {
-        LocationComponent locationComponent = entityRef.getComponent(LocationComponent.class);
+    public void onGrowthComponentChanged(OnChangedComponent event, EntityRef entityRef, WildAnimalGrowthComponent growthComponent) {
+        scheduleGrowth(entityRef, growthComponent);
+    }
+
+    /** Stop the growth timer when the animal reached its last stage, died or got unloaded. */
+    @ReceiveEvent
+    public void onGrowthComponentDeactivated(BeforeDeactivateComponent event, EntityRef entityRef, WildAnimalGrowthComponent growthComponent) {
+        pendingGrowths.cancel(entityRef);
+    }
+
+    private void scheduleGrowth(EntityRef entityRef, WildAnimalGrowthComponent growthComponent) {
+        if (growthComponent.growthTime == 0) {
+            long randomTime = growthComponent.minGrowthTime;
+            if (growthComponent.maxGrowthTime > growthComponent.minGrowthTime) {
+                // one stream per animal and stage, so the delay does not depend on which animals grew before
+                randomTime = WildlifeRandom.forAnimal(getSeed(entityRef), getStageStream(entityRef))
+                        .nextLong(growthComponent.minGrowthTime, growthComponent.maxGrowthTime);
+            }
+            growthComponent.growthTime = time.getGameTimeInMs() + randomTime;
+            // saving triggers onGrowthComponentChanged, which schedules the growth
+            entityRef.saveComponent(growthComponent);
+            return;
+        }
+        pendingGrowths.schedule(entityRef, growthComponent.growthTime);
+    }
+
+    /**
+     * @return the seed of the animal, which is given one now if it has none yet
+     */
+    private long getSeed(EntityRef entityRef) {
+        WildAnimalComponent wildAnimalComponent = entityRef.getComponent(WildAnimalComponent.class);
+        if (wildAnimalComponent.seed == 0) {
+            wildAnimalComponent.seed = WildlifeRandom.nextAnimalSeed(unseededAnimals);
+            entityRef.saveComponent(wildAnimalComponent);
+        }
+        return wildAnimalComponent.seed;
+    }
+
+    /**
+     * @return the stream of the animal's current growth stage, keyed by the URN of the stage's prefab, as species ids
+     *         change when modules add or remove species
+     */
+    private long getStageStream(EntityRef entityRef) {
+        WildAnimalComponent wildAnimalComponent = entityRef.getComponent(WildAnimalComponent.class);
+        Prefab stage = wildAnimalComponent.stagePrefab != null
+                ? wildAnimalComponent.stagePrefab : entityRef.getParentPrefab();
+        return WildlifeRandom.streamOf(stage != null ? stage.getUrn().toString() : null);
+    }
+
+    /** Execute the next growth stage.  Called when the growth timer expires. */
+    private void grow(EntityRef entityRef) {
+        WildAnimalGrowthComponent growthComponent = entityRef.getComponent(WildAnimalGrowthComponent.class);
+        WildAnimalComponent wildAnimalComponent = entityRef.getComponent(WildAnimalComponent.class);
+        if (growthComponent == null || wildAnimalComponent == null) {
+            return;
+        }
+        Prefab currentStage = wildAnimalComponent.stagePrefab != null ? wildAnimalComponent.stagePrefab : entityRef.getParentPrefab();
+        Prefab nextStage = getNextStage(entityRef, growthComponent);
+        if (nextStage == null) {
+            logger.warn("Cannot grow {}, next stage prefab {} not found", entityRef, growthComponent.nextStagePrefab);
+            return;
+        }
         entityRef.send(new AnimalGrowthEvent());
-        entityRef.destroy();
-        entityManager.create(growthComponent.nextStagePrefab, locationComponent.getWorldPosition(new Vector3f()));
+        getTransition(currentStage, nextStage).apply(entityRef, entityManager.getComponentLibrary());
+    }
+
+    /**
+     * Takes the next stage from the animal's species, only resolving it by name for animals without one.
+     */
+    private Prefab getNextStage(EntityRef entityRef, WildAnimalGrowthComponent growthComponent) {
+        Species species = speciesRegistry.getSpecies(entityRef);
+        if (species != null && species.getNextStage() != null) {
+            return species.getNextStage().getPrefab();
+        }
+        Optional<Prefab> nextStage = Assets.getPrefab(growthComponent.nextStagePrefab);
+        return nextStage.orElse(null);
+    }
+
+    private GrowthTransition getTransition(Prefab currentStage, Prefab nextStage) {
+        if (currentStage == null) {
+            return new GrowthTransition(null, nextStage);
+        }
+        GrowthTransition transition = transitions.get(currentStage, nextStage);
+        if (transition == null) {
+            transition = new GrowthTransition(currentStage, nextStage);
+            transitions.put(currentStage, nextStage, transition);
+        }
+        return transition;
     }
 }
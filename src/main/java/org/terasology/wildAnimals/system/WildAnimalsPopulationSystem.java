@@ -0,0 +1,298 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.system;
+
+import org.joml.Vector3f;
+import org.joml.Vector3fc;
+import org.joml.Vector3ic;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.wildAnimals.component.WildAnimalComponent;
+import org.terasology.wildAnimals.metrics.WildlifeMetricsSystem;
+import org.terasology.wildAnimals.species.Species;
+import org.terasology.wildAnimals.species.SpeciesRegistry;
+import org.terasology.wildAnimals.util.EntityRotation;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the live WildAnimals per species and per region, so spawning can respect population caps and other systems
+ * can base decisions on how crowded an area is.
+ * <p>
+ * Animals hibernating in loaded chunks are counted too, as they are handed over by the
+ * {@link org.terasology.wildAnimals.lod.WildAnimalHibernationSystem}. They are counted in the region they went to
+ * sleep in.
+ * <p>
+ * Animals are counted by the id of their {@link Species} in the {@link SpeciesRegistry}, so species sharing a display
+ * name are told apart. Animals of no known species only count towards the totals.
+ * <p>
+ * A region is a column of {@link #REGION_SIZE_IN_CHUNKS} by {@link #REGION_SIZE_IN_CHUNKS} chunks spanning all heights.
+ * Counts are updated when animals are activated or deactivated. As animals wander off, a few of them are checked each
+ * tick and moved to the region they are in now.
+ */
+@Share(value = WildAnimalsPopulationSystem.class)
+@RegisterSystem(RegisterMode.AUTHORITY)
+public class WildAnimalsPopulationSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+    public static final int REGION_SIZE_IN_CHUNKS = 4;
+
+    private static final int ANIMALS_RELOCATED_PER_TICK = 32;
+
+    @In
+    private WildlifeMetricsSystem metrics;
+
+    @In
+    private SpeciesRegistry speciesRegistry;
+
+    private final Map<EntityRef, TrackedAnimal> animals = new HashMap<>();
+    private final Map<Long, Population> regions = new HashMap<>();
+    private final Population total = new Population();
+    private final EntityRotation relocationOrder = new EntityRotation();
+    private final Vector3f position = new Vector3f();
+
+    @Override
+    public void initialise() {
+        metrics.gauge("population.total", this::getTotalPopulation);
+        metrics.gaugeGroup("population.species", this::getSpeciesPopulations);
+    }
+
+    @Override
+    public void shutdown() {
+        animals.clear();
+        regions.clear();
+        total.clear();
+        relocationOrder.clear();
+    }
+
+    /**
+     * Moves a few animals that left their region over to the one they are in now.
+     */
+    @Override
+    public void update(float delta) {
+        long start = System.nanoTime();
+        int count = Math.min(ANIMALS_RELOCATED_PER_TICK, relocationOrder.size());
+        for (int i = 0; i < count; i++) {
+            EntityRef entity = relocationOrder.next();
+            LocationComponent locationComponent = entity.getComponent(LocationComponent.class);
+            TrackedAnimal animal = animals.get(entity);
+            if (locationComponent == null || animal == null) {
+                continue;
+            }
+            long region = regionOf(locationComponent.getWorldPosition(position));
+            if (region != animal.region) {
+                removeFromRegion(animal.region, animal.species);
+                getRegion(region).add(animal.species);
+                animal.region = region;
+            }
+        }
+        metrics.recordTickWork(start);
+    }
+
+    @ReceiveEvent(components = LocationComponent.class)
+    public void onWildAnimalActivated(OnActivatedComponent event, EntityRef entity, WildAnimalComponent wildAnimalComponent) {
+        track(entity);
+    }
+
+    /**
+     * The animal may have grown into another species.
+     */
+    @ReceiveEvent(components = LocationComponent.class)
+    public void onWildAnimalChanged(OnChangedComponent event, EntityRef entity, WildAnimalComponent wildAnimalComponent) {
+        TrackedAnimal animal = animals.get(entity);
+        if (animal == null || animal.species != getSpeciesId(entity)) {
+            track(entity);
+        }
+    }
+
+    @ReceiveEvent
+    public void onWildAnimalDeactivated(BeforeDeactivateComponent event, EntityRef entity, WildAnimalComponent wildAnimalComponent) {
+        untrack(entity);
+    }
+
+    /**
+     * Counts an animal that went into hibernation, or whose hibernating record was loaded.
+     *
+     * @param prefab the prefab of the animal's growth stage
+     * @param worldPosition where the animal hibernates
+     */
+    public void addHibernating(Prefab prefab, Vector3fc worldPosition) {
+        int species = getSpeciesId(prefab);
+        getRegion(regionOf(worldPosition)).add(species);
+        total.add(species);
+    }
+
+    /**
+     * Stops counting an animal that woke up, or whose hibernating record was unloaded.
+     *
+     * @param prefab the prefab of the animal's growth stage
+     * @param worldPosition where the animal hibernates
+     */
+    public void removeHibernating(Prefab prefab, Vector3fc worldPosition) {
+        int species = getSpeciesId(prefab);
+        removeFromRegion(regionOf(worldPosition), species);
+        total.remove(species);
+    }
+
+    /**
+     * @return the number of WildAnimals in the region containing the given chunk
+     */
+    public int getRegionPopulation(Vector3ic chunkPos) {
+        Population population = regions.get(regionOfChunk(chunkPos.x(), chunkPos.z()));
+        return population != null ? population.getTotal() : 0;
+    }
+
+    /**
+     * @return the number of WildAnimals of the given species in the region containing the given chunk
+     */
+    public int getRegionPopulation(Vector3ic chunkPos, Species species) {
+        Population population = regions.get(regionOfChunk(chunkPos.x(), chunkPos.z()));
+        return population != null ? population.get(species.getId()) : 0;
+    }
+
+    /**
+     * @return the number of WildAnimals of the given species in the whole world
+     */
+    public int getSpeciesPopulation(Species species) {
+        return total.get(species.getId());
+    }
+
+    /**
+     * @return the number of WildAnimals in the whole world
+     */
+    public int getTotalPopulation() {
+        return total.getTotal();
+    }
+
+    /**
+     * @return the WildAnimals in the whole world, by the URN of their species' prefab
+     */
+    public Map<String, Integer> getSpeciesPopulations() {
+        Map<String, Integer> populations = new HashMap<>();
+        for (Species species : speciesRegistry.getAllSpecies()) {
+            int population = total.get(species.getId());
+            if (population > 0) {
+                populations.put(species.getPrefab().getUrn().toString(), population);
+            }
+        }
+        return populations;
+    }
+
+    private int getSpeciesId(EntityRef entity) {
+        Species species = speciesRegistry.getSpecies(entity);
+        return species != null ? species.getId() : -1;
+    }
+
+    private int getSpeciesId(Prefab prefab) {
+        Species species = prefab != null ? speciesRegistry.getSpecies(prefab) : null;
+        return species != null ? species.getId() : -1;
+    }
+
+    private void track(EntityRef entity) {
+        untrack(entity);
+        LocationComponent locationComponent = entity.getComponent(LocationComponent.class);
+        int species = getSpeciesId(entity);
+        TrackedAnimal animal = new TrackedAnimal(species, regionOf(locationComponent.getWorldPosition(position)));
+        animals.put(entity, animal);
+        getRegion(animal.region).add(species);
+        total.add(species);
+        relocationOrder.add(entity);
+    }
+
+    private void untrack(EntityRef entity) {
+        TrackedAnimal animal = animals.remove(entity);
+        if (animal == null) {
+            return;
+        }
+        removeFromRegion(animal.region, animal.species);
+        total.remove(animal.species);
+        relocationOrder.remove(entity);
+    }
+
+    private Population getRegion(long region) {
+        return regions.computeIfAbsent(region, key -> new Population());
+    }
+
+    private void removeFromRegion(long region, int species) {
+        Population population = regions.get(region);
+        if (population == null) {
+            return;
+        }
+        population.remove(species);
+        if (population.getTotal() == 0) {
+            regions.remove(region);
+        }
+    }
+
+    private static long regionOf(Vector3fc worldPosition) {
+        int chunkX = Math.floorDiv((int) Math.floor(worldPosition.x()), Chunks.SIZE_X);
+        int chunkZ = Math.floorDiv((int) Math.floor(worldPosition.z()), Chunks.SIZE_Z);
+        return regionOfChunk(chunkX, chunkZ);
+    }
+
+    private static long regionOfChunk(int chunkX, int chunkZ) {
+        long regionX = Math.floorDiv(chunkX, REGION_SIZE_IN_CHUNKS);
+        long regionZ = Math.floorDiv(chunkZ, REGION_SIZE_IN_CHUNKS);
+        return (regionX << 32) | (regionZ & 0xFFFFFFFFL);
+    }
+
+    private static final class TrackedAnimal {
+        private final int species;
+        private long region;
+
+        private TrackedAnimal(int species, long region) {
+            this.species = species;
+            this.region = region;
+        }
+    }
+
+    /**
+     * The number of animals of each species by species id, and of all animals.
+     */
+    private static final class Population {
+        private int[] species = new int[0];
+        private int count;
+
+        void add(int speciesId) {
+            if (speciesId >= 0) {
+                if (speciesId >= species.length) {
+                    species = Arrays.copyOf(species, speciesId + 1);
+                }
+                species[speciesId]++;
+            }
+            count++;
+        }
+
+        void remove(int speciesId) {
+            if (speciesId >= 0 && speciesId < species.length) {
+                species[speciesId]--;
+            }
+            count--;
+        }
+
+        int get(int speciesId) {
+            return speciesId >= 0 && speciesId < species.length ? species[speciesId] : 0;
+        }
+
+        int getTotal() {
+            return count;
+        }
+
+        void clear() {
+            species = new int[0];
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.system;
+
+import org.joml.Vector3f;
+import org.joml.Vector3ic;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.wildAnimals.AnimalRepopulationConfig;
+import org.terasology.wildAnimals.lod.WildAnimalLodSystem;
+import org.terasology.wildAnimals.metrics.WildlifeMetricsSystem;
+import org.terasology.wildAnimals.spawn.SpawnSiteIndexSystem;
+import org.terasology.wildAnimals.spawn.SpawnSites;
+import org.terasology.wildAnimals.species.Species;
+
+import java.util.SplittableRandom;
+
+/**
+ * Adds new flocks to regions that have lost their animals, e.g. to hunting.
+ * <p>
+ * Each tick a few loaded chunks with spawn sites are looked at, taken round-robin from the
+ * {@link SpawnSiteIndexSystem}, so the work per tick does not grow with the world. A chunk gets a new flock if its
+ * region has fewer animals than {@link AnimalRepopulationConfig#targetAnimalsPerRegion} and no player is close enough
+ * to see the animals appear. The animals are spawned through the spawn queue of the {@link WildAnimalsSpawnSystem},
+ * which also enforces the population caps.
+ * <p>
+ * Chunks far enough away for animals to hibernate are left alone, as their hibernating animals are not counted.
+ * <p>
+ * Repopulation is off until {@link AnimalRepopulationConfig#targetAnimalsPerRegion} is set above zero.
+ */
+@Share(value = WildAnimalsRepopulationSystem.class)
+@RegisterSystem(RegisterMode.AUTHORITY)
+public class WildAnimalsRepopulationSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+
+    private AnimalRepopulationConfig config;
+
+    @In
+    private WildAnimalsSpawnSystem spawnSystem;
+
+    @In
+    private WildAnimalsPopulationSystem populationSystem;
+
+    @In
+    private SpawnSiteIndexSystem spawnSiteIndex;
+
+    @In
+    private WildAnimalLodSystem lodSystem;
+
+    @In
+    private WildlifeMetricsSystem metrics;
+
+    private final Vector3f chunkCenter = new Vector3f();
+    private float cooldown;
+    private long repopulatedFlocks;
+    /**
+     * The number of repopulation attempts that got to pick a species, numbering the random streams they use.
+     */
+    private long attempts;
+
+    @Override
+    public void initialise() {
+        if (config == null) {
+            config = new AnimalRepopulationConfig();
+        }
+    }
+
+    public void setConfig(AnimalRepopulationConfig configuration) {
+        config = configuration;
+    }
+
+    /**
+     * @return the number of flocks queued by repopulation since the system was started
+     */
+    public long getRepopulatedFlocks() {
+        return repopulatedFlocks;
+    }
+
+    @Override
+    public void update(float delta) {
+        long start = System.nanoTime();
+        repopulate(delta);
+        metrics.recordTickWork(start);
+    }
+
+    private void repopulate(float delta) {
+        if (cooldown > 0) {
+            cooldown -= delta;
+            return;
+        }
+        if (config.targetAnimalsPerRegion <= 0) {
+            return;
+        }
+        int count = Math.min(config.chunksCheckedPerTick, spawnSiteIndex.getIndexedChunkCount());
+        for (int i = 0; i < count; i++) {
+            Vector3ic chunkPos = spawnSiteIndex.nextIndexedChunk();
+            if (chunkPos != null && tryRepopulate(chunkPos)) {
+                repopulatedFlocks++;
+                cooldown = config.secondsBetweenFlocks;
+                return;
+            }
+        }
+    }
+
+    private boolean tryRepopulate(Vector3ic chunkPos) {
+        if (populationSystem.getRegionPopulation(chunkPos) >= config.targetAnimalsPerRegion) {
+            return false;
+        }
+        chunkCenter.set(
+                (chunkPos.x() + 0.5f) * Chunks.SIZE_X,
+                (chunkPos.y() + 0.5f) * Chunks.SIZE_Y,
+                (chunkPos.z() + 0.5f) * Chunks.SIZE_Z);
+        float distance = lodSystem.getDistanceToClosestPlayer(chunkCenter);
+        if (distance < config.minPlayerDistance || distance >= lodSystem.getWakeDistance()) {
+            return false;
+        }
+        // stream 0 is used when the chunk is generated
+        SplittableRandom random = spawnSystem.createChunkRandom(chunkPos, ++attempts);
+        Species species = spawnSystem.pickSpawnSpecies(random);
+        if (species == null) {
+            return false;
+        }
+        SpawnSites sites = spawnSiteIndex.getSpawnSites(chunkPos, species);
+        return spawnSystem.queueFlock(species.getPrefab(), chunkPos, sites, random);
+    }
+}
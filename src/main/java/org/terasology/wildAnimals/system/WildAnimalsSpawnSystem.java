@@ -2,183 +2,616 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.wildAnimals.system;
 
-import com.google.common.collect.Lists;
 import org.joml.AxisAngle4f;
 import org.joml.Quaternionf;
 import org.joml.Vector3f;
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.terasology.engine.entitySystem.entity.EntityManager;
 import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.entitySystem.prefab.Prefab;
 import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
 import org.terasology.engine.entitySystem.systems.RegisterMode;
 import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.logic.console.commandSystem.annotations.Command;
+import org.terasology.engine.logic.permission.PermissionManager;
 import org.terasology.engine.registry.In;
 import org.terasology.engine.registry.Share;
-import org.terasology.engine.utilities.Assets;
 import org.terasology.engine.world.WorldProvider;
-import org.terasology.engine.world.block.Block;
 import org.terasology.engine.world.block.BlockManager;
-import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.chunks.Chunk;
+import org.terasology.engine.world.chunks.ChunkProvider;
 import org.terasology.engine.world.chunks.event.OnChunkGenerated;
+import org.terasology.engine.world.chunks.event.OnChunkLoaded;
 import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
 import org.terasology.wildAnimals.AnimalSpawnConfig;
+import org.terasology.wildAnimals.flock.WildAnimalsFlockSystem;
+import org.terasology.wildAnimals.lod.WildAnimalLodSystem;
+import org.terasology.wildAnimals.metrics.Counter;
+import org.terasology.wildAnimals.metrics.Histogram;
+import org.terasology.wildAnimals.metrics.Timer;
+import org.terasology.wildAnimals.metrics.WildlifeMetricsSystem;
+import org.terasology.wildAnimals.species.Species;
+import org.terasology.wildAnimals.species.SpeciesRegistry;
+import org.terasology.wildAnimals.spawn.ChunkSnapshot;
+import org.terasology.wildAnimals.spawn.SpawnJob;
+import org.terasology.wildAnimals.spawn.SpawnSiteIndexSystem;
+import org.terasology.wildAnimals.spawn.SpawnQueue;
+import org.terasology.wildAnimals.spawn.SpawnRateController;
+import org.terasology.wildAnimals.spawn.SpawnRules;
+import org.terasology.wildAnimals.spawn.SpawnSiteCondition;
+import org.terasology.wildAnimals.spawn.SpawnSiteScanner;
+import org.terasology.wildAnimals.spawn.SpawnSites;
+import org.terasology.wildAnimals.util.WildAnimalEntities;
+import org.terasology.wildAnimals.util.WildlifeRandom;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
-import java.util.Random;
-import java.util.function.Function;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Share(value = WildAnimalsSpawnSystem.class)
 @RegisterSystem(RegisterMode.AUTHORITY)
-public class WildAnimalsSpawnSystem extends BaseComponentSystem {
+public class WildAnimalsSpawnSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+
+    private static final Logger logger = LoggerFactory.getLogger(WildAnimalsSpawnSystem.class);
+
     private AnimalSpawnConfig config;
 
+    @In
+    private WorldProvider worldProvider;
+
+    @In
+    private BlockManager blockManager;
+
+    @In
+    private ChunkProvider chunkProvider;
+
+    @In
+    private WildAnimalsPopulationSystem populationSystem;
+
+    @In
+    private WildAnimalsFlockSystem flockSystem;
+
     @In
     private EntityManager entityManager;
 
     @In
-    private WorldProvider worldProvider;
+    private SpeciesRegistry speciesRegistry;
 
     @In
-    private BlockManager blockManager;
+    private SpawnSiteIndexSystem spawnSiteIndex;
 
-    private final Random random = new Random();
+    @In
+    private WildAnimalLodSystem lodSystem;
 
-    private Block grassBlock;
-    private Block airBlock;
-    private List<Prefab> flockAnimals;
+    @In
+    private WildlifeMetricsSystem metrics;
 
     /**
-     * Check blocks at and around the target position and check if it's a valid spawning spot
+     * The stream of a chunk used when it is generated, see {@link #createChunkRandom(Vector3ic, long)}.
      */
-    private Function<Vector3i, Boolean> isValidSpawnPosition;
+    private static final long GENERATION_STREAM = 0;
 
+    private long worldSeed;
 
     /**
-     * Readies the spawning system by defining blocks for identification and obtaining prefabs of animals.
+     * The compiled spawn rules of {@link #spawnRulesSpecies}, compiled again once the spawnable species change.
      */
-    @Override
-    public void initialise() {
-        grassBlock = blockManager.getBlock("CoreAssets:Grass");
-        airBlock = blockManager.getBlock(BlockManager.AIR_ID);
-        flockAnimals = new ArrayList<>();
-        Assets.getPrefab("WildAnimals:Deer").ifPresent(prefab -> flockAnimals.add(prefab));
-        Assets.getPrefab("WildAnimals:Sheep").ifPresent(prefab -> flockAnimals.add(prefab));
-
-        if (isValidSpawnPosition == null) {
-            isValidSpawnPosition = pos -> {
-                Vector3i below = new Vector3i(pos.x, pos.y - 1, pos.z);
-                Block blockBelow = worldProvider.getBlock(below);
-                if (!blockBelow.equals(grassBlock)) {
-                    return false;
-                }
-                Block blockAtPosition = worldProvider.getBlock(pos);
-                if (!blockAtPosition.isPenetrable()) {
-                    return false;
-                }
+    private SpawnRules spawnRules;
+    private List<Species> spawnRulesSpecies;
+    private SpawnSiteCondition spawnCondition = SpawnSiteCondition.ANY;
 
-                Vector3i above = new Vector3i(pos.x, pos.y + 1, pos.z);
-                Block blockAbove = worldProvider.getBlock(above);
-                return blockAbove.equals(airBlock);
-            };
-        }
+    private final Vector3i spawnPosition = new Vector3i();
+
+    /**
+     * Chunk scans running on the worker threads, in the order the chunks were generated.
+     */
+    private final Deque<PendingScan> pendingScans = new ArrayDeque<>();
+    private ExecutorService scanExecutor;
 
+    /**
+     * Flocks found in generated chunks, waiting to be spawned within the per-tick budget.
+     */
+    private final SpawnQueue spawnQueue = new SpawnQueue();
+
+    /**
+     * Scales spawning to the load of the server, see {@link #getSpawnRateScale()}.
+     */
+    private final SpawnRateController rateController = new SpawnRateController();
+    /**
+     * The part of the scaled spawn budget not used up yet, carried over to the next tick, so budgets below one
+     * animal per tick still add up to the scaled rate.
+     */
+    private float spawnCredit;
+
+    /**
+     * The number of flocks not spawned because of population caps.
+     */
+    private Counter rejectedFlocks;
+    private Counter attemptedSpawns;
+    private Counter invalidSites;
+    private Counter createdAnimals;
+    private Timer scanTime;
+    private Histogram scanSites;
+
+    @Override
+    public void initialise() {
         if (config == null) {
             config = new AnimalSpawnConfig();
         }
+        worldSeed = WildlifeRandom.seedOf(worldProvider.getSeed());
+        configureRateController();
+
+        rejectedFlocks = metrics.counter("spawn.rejectedFlocks");
+        attemptedSpawns = metrics.counter("spawn.attempted");
+        invalidSites = metrics.counter("spawn.invalidSites");
+        createdAnimals = metrics.counter("spawn.created");
+        scanTime = metrics.timer("spawn.scan.time");
+        scanSites = metrics.histogram("spawn.scan.sites");
+        metrics.gauge("spawn.queueDepth", this::getSpawnQueueDepth);
+        metrics.gauge("spawn.pendingScans", this::getPendingScanCount);
+        metrics.gauge("spawn.droppedJobs", this::getDroppedSpawnJobs);
+        metrics.gauge("spawn.rateScalePercent", () -> Math.round(100 * getSpawnRateScale()));
     }
 
-    public void setSpawnCondition(Function<Vector3i, Boolean> function) {
-        isValidSpawnPosition = function;
+    /**
+     * @return the spawn rules of all spawnable species, see
+     *         {@link org.terasology.wildAnimals.component.WildAnimalSpawnComponent}
+     */
+    public SpawnRules getSpawnRules() {
+        List<Species> spawnableSpecies = speciesRegistry.getSpawnableSpecies();
+        if (spawnRules == null || spawnRulesSpecies != spawnableSpecies) {
+            spawnRules = SpawnRules.compile(spawnableSpecies, blockManager, spawnCondition);
+            spawnRulesSpecies = spawnableSpecies;
+        }
+        return spawnRules;
+    }
+
+    /**
+     * Adds a condition spawn sites have to fulfil besides the spawn rules of their species, e.g. to keep animals off
+     * the blocks of another module. Chunks scanned from now on are scanned with it, and sites found before are checked
+     * against it when an animal is about to spawn there.
+     * Must be thread safe if {@link AnimalSpawnConfig#spawnScanThreads} is used.
+     *
+     * @param condition tested for every position that fulfils the rules of a species, or null to only check the rules
+     */
+    public void setSpawnCondition(SpawnSiteCondition condition) {
+        spawnCondition = condition != null ? condition : SpawnSiteCondition.ANY;
+        spawnRules = null;
     }
 
     public void setConfig(AnimalSpawnConfig configuration) {
         config = configuration;
+        configureRateController();
+    }
+
+    private void configureRateController() {
+        rateController.configure(config.tickWorkBudgetMs, config.maxFullDetailAnimals, config.minSpawnRateScale,
+                config.maxSpawnRateScale);
+    }
+
+    @Override
+    public void shutdown() {
+        if (scanExecutor != null) {
+            scanExecutor.shutdownNow();
+            scanExecutor = null;
+        }
+        pendingScans.clear();
+        spawnQueue.clear();
+        rateController.reset();
+        spawnCredit = 0;
+        spawnRules = null;
+        spawnRulesSpecies = null;
+    }
+
+    /**
+     * Spawns queued flock animals until either {@link AnimalSpawnConfig#maxSpawnsPerTick} animals have been created
+     * or {@link AnimalSpawnConfig#maxSpawnTimePerTickMs} has passed, both scaled by {@link #getSpawnRateScale()}.
+     * Fractions of an animal left of the scaled budget are carried over to the next tick. Jobs whose chunk has been unloaded or whose region has reached its population cap in the meantime are dropped.
+     */
+    @Override
+    public void update(float delta) {
+        long start = System.nanoTime();
+        rateController.update(delta, metrics.takeTickWorkNanos() / 1_000_000f, lodSystem.getFullDetailCount());
+        collectFinishedScans();
+        spawnQueuedAnimals();
+        metrics.recordTickWork(start);
+    }
+
+    private void spawnQueuedAnimals() {
+        float scale = getSpawnRateScale();
+        long deadline = System.nanoTime() + (long) (config.maxSpawnTimePerTickMs * scale * 1_000_000);
+        float budget = config.maxSpawnsPerTick * scale;
+        // an empty queue does not save up for a burst later on
+        spawnCredit = Math.min(spawnCredit + budget, Math.max(1, budget));
+        while (spawnCredit >= 1) {
+            SpawnJob job = spawnQueue.peek();
+            if (job == null) {
+                return;
+            }
+            Species species = speciesRegistry.getSpecies(job.getPrefab());
+            if (species == null || !chunkProvider.isChunkReady(job.getChunkPos())
+                    || getSpawnAllowance(job.getPrefab(), job.getChunkPos()) <= 0) {
+                spawnQueue.drop();
+                continue;
+            }
+            SpawnSites sites = job.getSites();
+            int randomSpawnSite = sites.swapRemove(job.getRandom().nextInt(sites.size()));
+            SpawnSites.toWorldPosition(randomSpawnSite, job.getChunkPos(), spawnPosition);
+            attemptedSpawns.increment();
+            if (isValidSpawnSite(spawnPosition, species)) {
+                EntityRef animal = spawnFlockAnimal(job.getPrefab(), spawnPosition, job.getRandom());
+                if (!job.getFlock().exists()) {
+                    job.setFlock(flockSystem.createFlock());
+                }
+                flockSystem.join(job.getFlock(), animal);
+                job.spawned();
+                spawnCredit--;
+                createdAnimals.increment();
+            } else {
+                invalidSites.increment();
+            }
+            long now = System.nanoTime();
+            if (job.isDone()) {
+                spawnQueue.complete(now);
+            }
+            if (now >= deadline) {
+                return;
+            }
+        }
     }
 
+    /**
+     * @return the factor the per-tick spawn budget is currently scaled by, lower while the WildAnimals systems are
+     *         over their tick work or behavior budget
+     */
+    public float getSpawnRateScale() {
+        return rateController.getScale();
+    }
+
+    /**
+     * @return the number of flocks waiting to be spawned
+     */
+    public int getSpawnQueueDepth() {
+        return spawnQueue.size();
+    }
 
     /**
-     * Runs upon a chunk being generated to see whether a deer should be spawned
+     * @return the number of chunks waiting for their spawn site search to finish on a worker thread
+     */
+    public int getPendingScanCount() {
+        return pendingScans.size();
+    }
+
+    /**
+     * @return the time in milliseconds it took from finding the most recently completed flock to spawning its last
+     *         animal
+     */
+    public float getLastSpawnDrainLatencyMs() {
+        return spawnQueue.getLastDrainLatencyMs();
+    }
+
+    /**
+     * @return the highest drain latency in milliseconds seen since the system was started
+     */
+    public float getMaxSpawnDrainLatencyMs() {
+        return spawnQueue.getMaxDrainLatencyMs();
+    }
+
+    /**
+     * @return the number of flocks dropped because their chunk was unloaded or their region filled up before they
+     *         could be spawned completely
+     */
+    public long getDroppedSpawnJobs() {
+        return spawnQueue.getDroppedJobs();
+    }
+
+    /**
+     * @return the number of flocks not spawned at all because their region or species was at its population cap,
+     *         since the system was started or the metrics were reset
+     */
+    public long getRejectedFlocks() {
+        return rejectedFlocks.getCount();
+    }
+
+    /**
+     * Works out how many more animals of the prefab's species may be spawned in a chunk, according to the population
+     * caps of {@link AnimalSpawnConfig}.
+     *
+     * @param animalPrefab the prefab of the animals to spawn
+     * @param chunkPos the chunk to spawn the animals in
+     * @return the number of animals that may still be spawned, may be negative if the caps are already exceeded
+     */
+    public int getSpawnAllowance(Prefab animalPrefab, Vector3ic chunkPos) {
+        int allowance = config.maxAnimalsPerRegion - populationSystem.getRegionPopulation(chunkPos);
+        Species species = speciesRegistry.getSpecies(animalPrefab);
+        if (species != null) {
+            Integer speciesCap = config.maxAnimalsPerSpecies.get(species.getPrefab().getUrn().toString());
+            if (speciesCap != null) {
+                allowance = Math.min(allowance, speciesCap - populationSystem.getSpeciesPopulation(species));
+            }
+        }
+        return allowance;
+    }
+
+    /**
+     * Derives a random stream from the world seed and the position of a chunk, so spawning in the chunk does not
+     * depend on the order chunks are generated in or on other chunks.
+     *
+     * @param chunkPos the chunk to spawn animals in
+     * @param stream tells apart different uses of the same chunk; 0 is used when the chunk is generated
+     * @return a new random stream
+     */
+    public SplittableRandom createChunkRandom(Vector3ic chunkPos, long stream) {
+        return WildlifeRandom.forChunk(worldSeed, chunkPos, stream);
+    }
+
+    /**
+     * Runs upon a chunk being generated to index its spawn sites and see whether a deer should be spawned
      *
      * @param event The event which the method will run upon receiving
      * @param worldEntity The world that the chunk is in
      */
     @ReceiveEvent
     public void onChunkGenerated(OnChunkGenerated event, EntityRef worldEntity) {
-        boolean trySpawn = config.spawnChanceInPercent > random.nextInt(100);
-        if (!trySpawn) {
-            return;
+        long start = System.nanoTime();
+        Vector3ic chunkPos = event.getChunkPos();
+        SplittableRandom random = createChunkRandom(chunkPos, GENERATION_STREAM);
+        Species species = null;
+        // not scaled to the load, so which chunks get a flock only depends on the seed; the load only delays spawning
+        boolean trySpawn = random.nextDouble() * 100 < config.spawnChanceInPercent;
+        if (trySpawn) {
+            // randomly decide which of the spawning species to spawn in this chunk
+            species = pickSpawnSpecies(random);
+            if (species != null && getSpawnAllowance(species.getPrefab(), chunkPos) < config.minFlockSize) {
+                rejectedFlocks.increment();
+                species = null;
+            }
         }
+        scanChunk(species, chunkPos, random);
+        metrics.recordTickWork(start);
+    }
+
+    /**
+     * Finds the spawn sites of a chunk loaded from the world's save without a stored index, e.g. one saved before the
+     * index existed. Chunks loaded with their index, and chunks just generated, which have already been scanned or are
+     * being scanned by {@link #onChunkGenerated}, are left alone.
+     *
+     * @param event The event which the method will run upon receiving
+     * @param worldEntity The world that the chunk is in
+     */
+    @ReceiveEvent
+    public void onChunkLoaded(OnChunkLoaded event, EntityRef worldEntity) {
+        long start = System.nanoTime();
         Vector3ic chunkPos = event.getChunkPos();
-        // randomly decide whether to spawn deer or sheep in this chunk
-        Prefab animalPrefab = flockAnimals.get(random.nextInt(flockAnimals.size()));
-        tryFlockAnimalSpawn(animalPrefab, chunkPos);
+        if (!spawnSiteIndex.isScanned(chunkPos) && !isScanPending(chunkPos)) {
+            scanChunk(null, chunkPos, null);
+        }
+        metrics.recordTickWork(start);
+    }
+
+    private boolean isScanPending(Vector3ic chunkPos) {
+        for (PendingScan scan : pendingScans) {
+            if (scan.chunkPos.equals(chunkPos)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Picks one of the species with a {@link org.terasology.wildAnimals.component.WildAnimalSpawnComponent} by their
+     * weights.
+     *
+     * @param random the random stream of the chunk to spawn in
+     * @return the species, or null if no species spawns
+     */
+    public Species pickSpawnSpecies(SplittableRandom random) {
+        List<Species> spawnableSpecies = speciesRegistry.getSpawnableSpecies();
+        int totalWeight = 0;
+        for (Species species : spawnableSpecies) {
+            totalWeight += species.getSpawnRules().weight;
+        }
+        if (totalWeight <= 0) {
+            return null;
+        }
+        int pick = random.nextInt(totalWeight);
+        for (Species species : spawnableSpecies) {
+            pick -= species.getSpawnRules().weight;
+            if (pick < 0) {
+                return species;
+            }
+        }
+        return null;
     }
 
     /**
-     * Attempts to spawn deer on the specified chunk. The number of deers spawned will depend on probabiliy
-     * configurations defined earlier.
+     * Searches the specified chunk for the spawn sites of all species, and attempts to spawn a flock there. The search
+     * either happens right away or on a worker thread, depending on {@link AnimalSpawnConfig#spawnScanThreads}.
      *
-     * @param chunkPos The chunk which the game will try to spawn deers on
+     * @param species the species to spawn, or null to only index the chunk
+     * @param chunkPos The chunk which the game will try to spawn the flock in
+     * @param random the random stream of the chunk, or null to only index the chunk
      */
-    private void tryFlockAnimalSpawn(Prefab animalPrefab, Vector3ic chunkPos) {
-        List<Vector3i> foundPositions = findFlockAnimalSpawnPositions(chunkPos);
+    private void scanChunk(Species species, Vector3ic chunkPos, SplittableRandom random) {
+        Chunk chunk = chunkProvider.getChunk(chunkPos);
+        if (chunk == null) {
+            return;
+        }
+        ChunkSnapshot snapshot = ChunkSnapshot.of(chunk, chunkPos, worldProvider);
+        SpawnRules rules = getSpawnRules();
+        if (config.spawnScanThreads > 0) {
+            Future<SpawnSites[]> result =
+                    getScanExecutor().submit(() -> findFlockAnimalSpawnPositions(snapshot, rules));
+            pendingScans.addLast(new PendingScan(species, snapshot.getChunkPos(), random, rules, result));
+        } else {
+            onChunkScanned(species, chunkPos, random, rules, findFlockAnimalSpawnPositions(snapshot, rules));
+        }
+    }
+
+    /**
+     * Records the sites found in a chunk and queues the flock to spawn there, if any.
+     *
+     * @param foundPositions the sites found for each of the rules
+     */
+    private void onChunkScanned(Species species, Vector3ic chunkPos, SplittableRandom random, SpawnRules rules,
+                                SpawnSites[] foundPositions) {
+        spawnSiteIndex.setSpawnSites(chunkPos, rules, foundPositions);
+        int rule = species != null ? rules.indexOf(species) : -1;
+        if (rule >= 0) {
+            queueFlock(species.getPrefab(), chunkPos, foundPositions[rule], random);
+        }
+    }
+
+    /**
+     * Hands the results of finished worker scans over to the spawn queue.
+     * Results are taken strictly in the order the chunks were generated, which keeps the spawns independent of the
+     * number of worker threads.
+     */
+    private void collectFinishedScans() {
+        while (!pendingScans.isEmpty() && pendingScans.peekFirst().result.isDone()) {
+            PendingScan scan = pendingScans.pollFirst();
+            try {
+                onChunkScanned(scan.species, scan.chunkPos, scan.random, scan.rules, scan.result.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                logger.error("Failed to search chunk {} for spawn sites", scan.chunkPos, e.getCause());
+            }
+        }
+    }
 
+    /**
+     * Decides on the number of deer to spawn in a chunk and queues them. The number of deers spawned will depend on
+     * probabiliy configurations defined earlier.
+     * The animals are not created right away, see {@link #update(float)}.
+     *
+     * @param animalPrefab the prefab of the animals to spawn
+     * @param chunkPos the chunk to spawn the animals in
+     * @param foundPositions the spawn sites found in the chunk, owned by the spawn queue from now on
+     * @param random the random stream of the chunk, used by the spawn queue from now on
+     * @return whether a flock was queued
+     */
+    public boolean queueFlock(Prefab animalPrefab, Vector3ic chunkPos, SpawnSites foundPositions,
+                              SplittableRandom random) {
         if (foundPositions.size() < config.minFlockSize * config.minGroundPerFlockAnimal) {
-            return;
+            return false;
         }
 
         int maxDeerCount = foundPositions.size() / config.minFlockSize;
         if (maxDeerCount > config.maxFlockSize) {
             maxDeerCount = config.maxFlockSize;
         }
-        int deerCount = random.nextInt(maxDeerCount - config.minFlockSize) + config.minFlockSize;
+        int deerCount = maxDeerCount > config.minFlockSize
+                ? random.nextInt(config.minFlockSize, maxDeerCount) : config.minFlockSize;
 
-        for (int i = 0; i < deerCount; i++) {
-            int randomIndex = random.nextInt(foundPositions.size());
-            Vector3i randomSpawnPosition = foundPositions.remove(randomIndex);
-            spawnFlockAnimal(animalPrefab, randomSpawnPosition);
+        // the region may have filled up while the chunk was scanned
+        deerCount = Math.min(deerCount, getSpawnAllowance(animalPrefab, chunkPos));
+        if (deerCount < config.minFlockSize) {
+            rejectedFlocks.increment();
+            return false;
         }
+
+        spawnQueue.add(new SpawnJob(chunkPos, animalPrefab, foundPositions, deerCount, random, System.nanoTime()));
+        return true;
     }
 
     /**
-     * Checks each block of the chunk specified for valid spawning spawnings point for deer.
+     * Checks each block of the chunk specified for valid spawn sites of every species, in a single pass.
+     * Only reads from the snapshot and the rules and records into thread safe metrics, so it may run on a worker
+     * thread.
      *
-     * @param chunkPos The chunk that is being checked for valid spawnpoints
-     * @return a list of positions of potential deer spawnpoints
-     */
-    private List<Vector3i> findFlockAnimalSpawnPositions(Vector3ic chunkPos) {
-        Vector3i worldPos = new Vector3i(chunkPos);
-        worldPos.mul(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z);
-        List<Vector3i> foundPositions = Lists.newArrayList();
-        Vector3i blockPos = new Vector3i();
-        for (int y = Chunks.SIZE_Y - 1; y >= 0; y--) {
-            for (int z = 0; z < Chunks.SIZE_Z; z++) {
-                for (int x = 0; x < Chunks.SIZE_X; x++) {
-                    blockPos.set(x + worldPos.x, y + worldPos.y, z + worldPos.z);
-                    if (isValidSpawnPosition.apply(blockPos)) {
-                        foundPositions.add(new Vector3i(blockPos));
-                    }
-                }
-            }
+     * @param snapshot The chunk that is being checked for valid spawnpoints
+     * @return the sites found for each rule, in the order of the rule indices
+     */
+    private SpawnSites[] findFlockAnimalSpawnPositions(ChunkSnapshot snapshot, SpawnRules rules) {
+        long start = System.nanoTime();
+        SpawnSites[] foundPositions = SpawnSiteScanner.createBuffers(rules);
+        SpawnSiteScanner.scan(snapshot, rules, foundPositions);
+        scanTime.recordSince(start);
+        int found = 0;
+        for (SpawnSites sites : foundPositions) {
+            found += sites.size();
         }
+        scanSites.record(found);
         return foundPositions;
     }
 
+    /**
+     * Checks a spawn site against the current world, as blocks may have changed since the chunk was scanned.
+     *
+     * @param pos the world position of the site
+     * @param species the species to spawn
+     * @return whether an animal of the species may spawn at the site
+     */
+    public boolean isValidSpawnSite(Vector3ic pos, Species species) {
+        SpawnRules rules = getSpawnRules();
+        int rule = rules.indexOf(species);
+        return rule >= 0 && rules.isSite(rule, worldProvider, pos);
+    }
+
+    private ExecutorService getScanExecutor() {
+        if (scanExecutor == null) {
+            scanExecutor = Executors.newFixedThreadPool(config.spawnScanThreads, runnable -> {
+                Thread thread = new Thread(runnable, "WildAnimals-SpawnScan");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return scanExecutor;
+    }
+
     /**
      * Spawns the deer at the location specified by the parameter.
      *
      * @param location The location where the deer is to be spawned
+     * @param random the random stream of the chunk, to pick the rotation and the seed of the deer
+     * @return the spawned deer
      */
-    private void spawnFlockAnimal(Prefab animalPrefab, Vector3i location) {
+    private EntityRef spawnFlockAnimal(Prefab animalPrefab, Vector3ic location, SplittableRandom random) {
         Vector3f floatVectorLocation = new Vector3f(location);
         Vector3f yAxis = new Vector3f(0, 1, 0);
-        float randomAngle = (float) (random.nextFloat() * Math.PI * 2);
+        float randomAngle = (float) (random.nextDouble() * Math.PI * 2);
         Quaternionf rotation = new Quaternionf(new AxisAngle4f(randomAngle, yAxis));
-        // TODO Turn deer spawning back on when done with debugging - this and the SPAWN_CHANCE_IN_PERCENT constant.
-        entityManager.create(animalPrefab, floatVectorLocation, rotation);
+        return WildAnimalEntities.create(entityManager, animalPrefab, floatVectorLocation, rotation,
+                WildlifeRandom.nextAnimalSeed(random));
     }
 
+    @Command(shortDescription = "Shows how WildAnimals spawning is scaled to the server load",
+            helpText = "Shows the spawn rate scale, the load it is derived from, the resulting per-tick spawn budget "
+                    + "and the number of flocks waiting to be spawned",
+            runOnServer = true, requiredPermission = PermissionManager.DEBUG_PERMISSION)
+    public String wildlifeSpawnControl() {
+        float scale = getSpawnRateScale();
+        return rateController.describe() + String.format("\n%.2f spawns and %.2f ms per tick, %d flocks waiting",
+                config.maxSpawnsPerTick * scale,
+                config.maxSpawnTimePerTickMs * scale,
+                getSpawnQueueDepth());
+    }
+
+    private static final class PendingScan {
+        private final Species species;
+        private final Vector3ic chunkPos;
+        private final SplittableRandom random;
+        private final SpawnRules rules;
+        private final Future<SpawnSites[]> result;
+
+        private PendingScan(Species species, Vector3ic chunkPos, SplittableRandom random, SpawnRules rules,
+                            Future<SpawnSites[]> result) {
+            this.species = species;
+            this.chunkPos = chunkPos;
+            this.random = random;
+            this.rules = rules;
+            this.result = result;
+        }
+    }
 }
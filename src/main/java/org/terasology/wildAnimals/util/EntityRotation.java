@@ -0,0 +1,66 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.util;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set of entities that can be walked round-robin, a few per tick, regardless of how many there are.
+ * Adding, removing and advancing are constant time.
+ */
+public class EntityRotation {
+    private final List<EntityRef> entities = new ArrayList<>();
+    private final Map<EntityRef, Integer> indices = new HashMap<>();
+    private int cursor;
+
+    public void add(EntityRef entity) {
+        if (!indices.containsKey(entity)) {
+            indices.put(entity, entities.size());
+            entities.add(entity);
+        }
+    }
+
+    public void remove(EntityRef entity) {
+        Integer index = indices.remove(entity);
+        if (index == null) {
+            return;
+        }
+        EntityRef last = entities.remove(entities.size() - 1);
+        if (index < entities.size()) {
+            entities.set(index, last);
+            indices.put(last, index);
+        }
+    }
+
+    public boolean contains(EntityRef entity) {
+        return indices.containsKey(entity);
+    }
+
+    /**
+     * @return the entity after the one returned last time, wrapping around at the end, or null if there are none
+     */
+    public EntityRef next() {
+        if (entities.isEmpty()) {
+            return null;
+        }
+        if (cursor >= entities.size()) {
+            cursor = 0;
+        }
+        return entities.get(cursor++);
+    }
+
+    public int size() {
+        return entities.size();
+    }
+
+    public void clear() {
+        entities.clear();
+        indices.clear();
+        cursor = 0;
+    }
+}
@@ -0,0 +1,101 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.util;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Min-heap of entities keyed on the game time they are due at.
+ * <p>
+ * Each entity is scheduled at most once; scheduling it again replaces the earlier time. Cancelled and replaced
+ * entries are left in the heap and skipped once they reach its head, so every operation is at most logarithmic in the
+ * number of scheduled entities.
+ */
+public class EntitySchedule {
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+    private final Map<EntityRef, Entry> scheduled = new HashMap<>();
+    private long sequence;
+
+    /**
+     * @param entity the entity to schedule
+     * @param time the game time in milliseconds the entity is due after
+     */
+    public void schedule(EntityRef entity, long time) {
+        Entry entry = new Entry(entity, time, sequence++);
+        scheduled.put(entity, entry);
+        queue.add(entry);
+        if (queue.size() > 2 * scheduled.size() + 64) {
+            compact();
+        }
+    }
+
+    public void cancel(EntityRef entity) {
+        scheduled.remove(entity);
+    }
+
+    public boolean isScheduled(EntityRef entity) {
+        return scheduled.containsKey(entity);
+    }
+
+    /**
+     * Removes and returns the entity with the earliest time, if that time lies before the given one.
+     *
+     * @param now the current game time in milliseconds
+     * @return the due entity, or null if no entity is due
+     */
+    public EntityRef pollDue(long now) {
+        while (!queue.isEmpty()) {
+            Entry head = queue.peek();
+            if (scheduled.get(head.entity) != head) {
+                queue.poll();
+                continue;
+            }
+            if (head.time >= now) {
+                return null;
+            }
+            queue.poll();
+            scheduled.remove(head.entity);
+            return head.entity;
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of scheduled entities
+     */
+    public int size() {
+        return scheduled.size();
+    }
+
+    public void clear() {
+        queue.clear();
+        scheduled.clear();
+    }
+
+    private void compact() {
+        queue.clear();
+        queue.addAll(scheduled.values());
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        private final EntityRef entity;
+        private final long time;
+        private final long sequence;
+
+        private Entry(EntityRef entity, long time, long sequence) {
+            this.entity = entity;
+            this.time = time;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int result = Long.compare(time, other.time);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
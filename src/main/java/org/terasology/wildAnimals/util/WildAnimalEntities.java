@@ -0,0 +1,49 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.util;
+
+import org.joml.Quaternionfc;
+import org.joml.Vector3fc;
+import org.terasology.engine.entitySystem.entity.EntityBuilder;
+import org.terasology.engine.entitySystem.entity.EntityManager;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.wildAnimals.component.WildAnimalComponent;
+
+/**
+ * Creates WildAnimal entities.
+ */
+public final class WildAnimalEntities {
+
+    private WildAnimalEntities() {
+    }
+
+    /**
+     * Creates an animal from its prefab, as {@link EntityManager#create(Prefab, Vector3fc, Quaternionfc)} does. The
+     * seed is set before the entity is created, so the systems see it when the animal is activated.
+     *
+     * @param entityManager the entity manager to create the animal with
+     * @param prefab the prefab of the animal
+     * @param position the world position of the animal
+     * @param rotation the world rotation of the animal
+     * @param seed the seed of the animal, see {@link WildAnimalComponent#seed}
+     * @return the animal
+     */
+    public static EntityRef create(EntityManager entityManager, Prefab prefab, Vector3fc position,
+                                   Quaternionfc rotation, long seed) {
+        EntityBuilder builder = entityManager.newBuilder(prefab);
+        LocationComponent locationComponent = builder.getComponent(LocationComponent.class);
+        if (locationComponent == null) {
+            locationComponent = new LocationComponent();
+            builder.addComponent(locationComponent);
+        }
+        locationComponent.setWorldPosition(position);
+        locationComponent.setWorldRotation(rotation);
+        WildAnimalComponent wildAnimalComponent = builder.getComponent(WildAnimalComponent.class);
+        if (wildAnimalComponent != null) {
+            wildAnimalComponent.seed = seed;
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,102 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.util;
+
+import org.joml.Vector3ic;
+
+import java.util.SplittableRandom;
+
+/**
+ * Derives independent random streams from the world seed, so the same world seed always gives the same wildlife.
+ * <p>
+ * Each stream is keyed by what it is used for, e.g. a chunk position or the seed of an animal, plus a stream number
+ * telling apart different uses of the same key. Streams share no state, so they may be used from any thread.
+ * <p>
+ * Entity ids are never used as keys, as they depend on the order entities were created in, which changes with the
+ * order chunks are loaded in and with the number of entities other modules create.
+ */
+public final class WildlifeRandom {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private WildlifeRandom() {
+    }
+
+    /**
+     * @param worldSeed the seed of the world, as given by {@link org.terasology.engine.world.WorldProvider#getSeed()}
+     * @return the seed to derive the wildlife streams of the world from
+     */
+    public static long seedOf(String worldSeed) {
+        return hash(worldSeed);
+    }
+
+    /**
+     * @param name a name that stays the same across sessions, e.g. the URN of a prefab
+     * @return a stream number derived from the name, see {@link #forAnimal(long, long)}
+     */
+    public static long streamOf(String name) {
+        return hash(name);
+    }
+
+    /**
+     * @param seed the seed of the world, see {@link #seedOf(String)}
+     * @param chunkPos the chunk the stream is used for
+     * @param stream tells apart different streams of the same chunk
+     * @return a new random stream
+     */
+    public static SplittableRandom forChunk(long seed, Vector3ic chunkPos, long stream) {
+        long key = combine(seed, chunkPos.x());
+        key = combine(key, chunkPos.y());
+        key = combine(key, chunkPos.z());
+        return new SplittableRandom(combine(key, stream));
+    }
+
+    /**
+     * @param animalSeed the seed of the animal the stream is used for, see
+     *         {@link org.terasology.wildAnimals.component.WildAnimalComponent#seed}
+     * @param stream tells apart different streams of the same animal
+     * @return a new random stream
+     */
+    public static SplittableRandom forAnimal(long animalSeed, long stream) {
+        return new SplittableRandom(combine(animalSeed, stream));
+    }
+
+    /**
+     * A 64 bit FNV-1a hash of the text, mixed so similar texts give unrelated values.
+     */
+    private static long hash(String text) {
+        long hash = 0xcbf29ce484222325L;
+        if (text != null) {
+            for (int i = 0; i < text.length(); i++) {
+                hash = (hash ^ text.charAt(i)) * 0x100000001b3L;
+            }
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Draws the seed of a new animal.
+     *
+     * @param random the stream the animal is created from, e.g. the stream of the chunk it spawns in
+     * @return a seed other than 0, which marks animals without a seed
+     */
+    public static long nextAnimalSeed(SplittableRandom random) {
+        long seed = random.nextLong();
+        while (seed == 0) {
+            seed = random.nextLong();
+        }
+        return seed;
+    }
+
+    private static long combine(long seed, long value) {
+        return mix(seed + GOLDEN_GAMMA * (value + 1));
+    }
+
+    /**
+     * The finalizer of SplitMix64, which spreads every input bit over all output bits.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
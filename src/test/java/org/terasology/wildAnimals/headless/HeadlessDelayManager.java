@@ -0,0 +1,109 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.headless;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.delay.DelayManager;
+import org.terasology.engine.logic.delay.DelayedActionTriggeredEvent;
+import org.terasology.engine.logic.delay.PeriodicActionTriggeredEvent;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Runs delayed and periodic actions on the {@link SimulatedClock}, behind a {@link DelayManager} stand-in, for systems
+ * and behaviors scheduling work on entities.
+ */
+public class HeadlessDelayManager {
+    private final SimulatedClock clock;
+    private final List<Action> actions = new ArrayList<>();
+    private final DelayManager delayManager = StandIns.of(DelayManager.class, this::handle);
+
+    public HeadlessDelayManager(SimulatedClock clock) {
+        this.clock = clock;
+    }
+
+    public DelayManager getDelayManager() {
+        return delayManager;
+    }
+
+    /**
+     * @return the number of actions waiting to be triggered
+     */
+    public int getPendingCount() {
+        return actions.size();
+    }
+
+    /**
+     * Triggers the actions that are due at the current game time.
+     */
+    public void update() {
+        long now = clock.getGameTimeMs();
+        List<Action> due = new ArrayList<>();
+        Iterator<Action> iterator = actions.iterator();
+        while (iterator.hasNext()) {
+            Action action = iterator.next();
+            if (action.time <= now) {
+                due.add(action);
+                if (action.period > 0) {
+                    action.time += action.period;
+                } else {
+                    iterator.remove();
+                }
+            }
+        }
+        for (Action action : due) {
+            if (!action.entity.exists()) {
+                actions.remove(action);
+            } else if (action.period > 0) {
+                action.entity.send(new PeriodicActionTriggeredEvent(action.id));
+            } else {
+                action.entity.send(new DelayedActionTriggeredEvent(action.id));
+            }
+        }
+    }
+
+    private Object handle(String name, Object[] args) {
+        switch (name) {
+            case "addDelayedAction":
+                actions.add(new Action((EntityRef) args[0], (String) args[1],
+                        clock.getGameTimeMs() + (Long) args[2], 0));
+                return null;
+            case "addPeriodicAction":
+                actions.add(new Action((EntityRef) args[0], (String) args[1],
+                        clock.getGameTimeMs() + (Long) args[2], (Long) args[3]));
+                return null;
+            case "cancelDelayedAction":
+                actions.removeIf(action -> action.matches(args, false));
+                return null;
+            case "cancelPeriodicAction":
+                actions.removeIf(action -> action.matches(args, true));
+                return null;
+            case "hasDelayedAction":
+                return actions.stream().anyMatch(action -> action.matches(args, false));
+            case "hasPeriodicAction":
+                return actions.stream().anyMatch(action -> action.matches(args, true));
+            default:
+                throw StandIns.unsupported(DelayManager.class, name);
+        }
+    }
+
+    private static final class Action {
+        private final EntityRef entity;
+        private final String id;
+        private final long period;
+        private long time;
+
+        private Action(EntityRef entity, String id, long time, long period) {
+            this.entity = entity;
+            this.id = id;
+            this.time = time;
+            this.period = period;
+        }
+
+        private boolean matches(Object[] args, boolean periodic) {
+            return entity == args[0] && id.equals(args[1]) && (period > 0) == periodic;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.headless;
+
+import org.joml.Quaternionfc;
+import org.joml.Vector3fc;
+import org.terasology.engine.entitySystem.entity.EntityBuilder;
+import org.terasology.engine.entitySystem.entity.EntityManager;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeRemoveComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnAddedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.metadata.ComponentLibrary;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.gestalt.entitysystem.component.Component;
+import org.terasology.gestalt.entitysystem.event.Event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Keeps entities in memory behind an {@link EntityManager} stand-in, and sends the lifecycle events the systems rely
+ * on through the {@link HeadlessEventBus}.
+ * <p>
+ * Unloading a chunk deactivates the entities in it and forgets them, as saving them is not part of what the harness
+ * measures.
+ */
+public class HeadlessEntityManager {
+    private final HeadlessEventBus eventBus;
+    private final Map<Long, Entity> entities = new LinkedHashMap<>();
+    private final EntityManager entityManager = StandIns.of(EntityManager.class, this::handle);
+    private final ComponentLibrary componentLibrary = mock(ComponentLibrary.class, withSettings().stubOnly());
+
+    private long nextId = 1;
+    private int peakCount;
+    private long createdCount;
+
+    public HeadlessEntityManager(HeadlessEventBus eventBus) {
+        this.eventBus = eventBus;
+        doAnswer(invocation -> copy(invocation.getArgument(0))).when(componentLibrary).copy(any());
+    }
+
+    public EntityManager getEntityManager() {
+        return entityManager;
+    }
+
+    /**
+     * @return the number of entities alive right now
+     */
+    public int getCount() {
+        return entities.size();
+    }
+
+    /**
+     * @return the highest number of entities alive at once
+     */
+    public int getPeakCount() {
+        return peakCount;
+    }
+
+    /**
+     * @return the number of entities created so far
+     */
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * @return the entities having all of the given components, in the order they were created
+     */
+    @SafeVarargs
+    public final List<EntityRef> getEntitiesWith(Class<? extends Component>... types) {
+        List<EntityRef> result = new ArrayList<>();
+        for (Entity entity : entities.values()) {
+            if (entity.hasAll(types)) {
+                result.add(entity.ref);
+            }
+        }
+        return result;
+    }
+
+    public EntityRef create(Prefab prefab, Vector3fc position, Quaternionfc rotation) {
+        List<Component> components = copyComponents(prefab);
+        LocationComponent location = null;
+        for (Component component : components) {
+            if (component instanceof LocationComponent) {
+                location = (LocationComponent) component;
+            }
+        }
+        if (position != null) {
+            if (location == null) {
+                location = new LocationComponent();
+                components.add(location);
+            }
+            location.setWorldPosition(position);
+            if (rotation != null) {
+                location.setWorldRotation(rotation);
+            }
+        }
+        return create(prefab, components);
+    }
+
+    public EntityRef create(Prefab prefab, Iterable<? extends Component> components) {
+        Entity entity = new Entity(nextId++, prefab);
+        for (Component component : components) {
+            entity.components.put(component.getClass(), component);
+        }
+        entities.put(entity.id, entity);
+        createdCount++;
+        peakCount = Math.max(peakCount, entities.size());
+        List<Class<? extends Component>> types = entity.types();
+        eventBus.sendLifecycle(entity.ref, OnAddedComponent.newInstance(), types);
+        eventBus.sendLifecycle(entity.ref, OnActivatedComponent.newInstance(), types);
+        return entity.ref;
+    }
+
+    /**
+     * @return an {@link EntityBuilder} stand-in starting out with copies of the prefab's components
+     */
+    public EntityBuilder newBuilder(Prefab prefab) {
+        Map<Class<?>, Component> components = new LinkedHashMap<>();
+        for (Component component : copyComponents(prefab)) {
+            components.put(component.getClass(), component);
+        }
+        return mock(EntityBuilder.class, withSettings().stubOnly().defaultAnswer(invocation -> {
+            Object[] args = invocation.getArguments();
+            switch (invocation.getMethod().getName()) {
+                case "getComponent":
+                    return components.get((Class<?>) args[0]);
+                case "hasComponent":
+                    return components.containsKey((Class<?>) args[0]);
+                case "addComponent":
+                case "addOrSaveComponent":
+                    components.put(args[0].getClass(), (Component) args[0]);
+                    return args[0];
+                case "saveComponent":
+                    components.put(args[0].getClass(), (Component) args[0]);
+                    return null;
+                case "build":
+                    return create(prefab, new ArrayList<>(components.values()));
+                default:
+                    throw StandIns.unsupported(EntityBuilder.class, invocation.getMethod().getName());
+            }
+        }));
+    }
+
+    /**
+     * Unloads an entity, as happens when its chunk is unloaded.
+     */
+    public void deactivate(EntityRef ref) {
+        Entity entity = entities.get(ref.getId());
+        if (entity != null && entity.ref == ref) {
+            eventBus.sendLifecycle(ref, BeforeDeactivateComponent.newInstance(), entity.types());
+            entities.remove(entity.id);
+            entity.alive = false;
+        }
+    }
+
+    /**
+     * Copies a component as the engine's component library does, field by field through its
+     * {@link Component#copyFrom} method.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T extends Component> T copy(T component) {
+        try {
+            Component copy = component.getClass().getDeclaredConstructor().newInstance();
+            ((Component) copy).copyFrom(component);
+            return (T) copy;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot copy " + component.getClass(), e);
+        }
+    }
+
+    private static List<Component> copyComponents(Prefab prefab) {
+        List<Component> components = new ArrayList<>();
+        if (prefab != null) {
+            for (Component component : prefab.iterateComponents()) {
+                components.add(copy(component));
+            }
+        }
+        return components;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object handle(String name, Object[] args) {
+        switch (name) {
+            case "create":
+                if (args.length > 0 && args[0] instanceof Prefab) {
+                    return create((Prefab) args[0],
+                            args.length > 1 ? (Vector3fc) args[1] : null,
+                            args.length > 2 ? (Quaternionfc) args[2] : null);
+                }
+                if (args.length == 1 && args[0] instanceof Component[]) {
+                    return create(null, Arrays.asList((Component[]) args[0]));
+                }
+                if (args.length == 1 && args[0] instanceof Iterable) {
+                    return create(null, (Iterable<Component>) args[0]);
+                }
+                if (args.length == 0) {
+                    return create(null, Collections.emptyList());
+                }
+                throw StandIns.unsupported(EntityManager.class, "create" + Arrays.toString(args));
+            case "newBuilder":
+                if (args.length == 1 && args[0] instanceof Prefab) {
+                    return newBuilder((Prefab) args[0]);
+                }
+                throw StandIns.unsupported(EntityManager.class, "newBuilder" + Arrays.toString(args));
+            case "getEntitiesWith":
+                return getEntitiesWith((Class<? extends Component>[]) args[0]);
+            case "getCountOfEntitiesWith":
+                return getEntitiesWith((Class<? extends Component>[]) args[0]).size();
+            case "getComponentLibrary":
+                return componentLibrary;
+            case "getEntity":
+                Entity entity = entities.get((Long) args[0]);
+                return entity != null ? entity.ref : EntityRef.NULL;
+            default:
+                throw StandIns.unsupported(EntityManager.class, name);
+        }
+    }
+
+    /**
+     * The state behind one {@link EntityRef} stand-in.
+     */
+    private final class Entity {
+        private final long id;
+        private final Prefab prefab;
+        private final Map<Class<?>, Component> components = new LinkedHashMap<>();
+        private final EntityRef ref;
+        private boolean alive = true;
+        private boolean persistent;
+
+        private Entity(long id, Prefab prefab) {
+            this.id = id;
+            this.prefab = prefab;
+            this.persistent = prefab == null || prefab.isPersisted();
+            this.ref = mock(EntityRef.class, withSettings().stubOnly()
+                    .defaultAnswer(invocation -> handle(invocation.getMethod().getName(), invocation.getArguments())));
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<Class<? extends Component>> types() {
+            List<Class<? extends Component>> types = new ArrayList<>();
+            for (Class<?> type : components.keySet()) {
+                types.add((Class<? extends Component>) type);
+            }
+            return types;
+        }
+
+        private boolean hasAll(Class<? extends Component>[] types) {
+            for (Class<? extends Component> type : types) {
+                if (!components.containsKey(type)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Object handle(String name, Object[] args) {
+            switch (name) {
+                case "getId":
+                    return id;
+                case "exists":
+                case "isActive":
+                    return alive;
+                case "getComponent":
+                    return components.get((Class<?>) args[0]);
+                case "hasComponent":
+                    return components.containsKey((Class<?>) args[0]);
+                case "iterateComponents":
+                    return new ArrayList<>(components.values());
+                case "addComponent":
+                    return add((Component) args[0]);
+                case "saveComponent":
+                    save((Component) args[0]);
+                    return null;
+                case "addOrSaveComponent":
+                    Component component = (Component) args[0];
+                    if (components.containsKey(component.getClass())) {
+                        save(component);
+                    } else {
+                        add(component);
+                    }
+                    return component;
+                case "removeComponent":
+                    remove((Class<? extends Component>) args[0]);
+                    return null;
+                case "destroy":
+                    destroy();
+                    return null;
+                case "send":
+                    return alive ? eventBus.send(ref, (Event) args[0]) : args[0];
+                case "getParentPrefab":
+                    return prefab;
+                case "isPersistent":
+                    return persistent;
+                case "setPersistent":
+                    persistent = (Boolean) args[0];
+                    return null;
+                case "getOwner":
+                    return EntityRef.NULL;
+                case "isAlwaysRelevant":
+                    return false;
+                case "toString":
+                case "toFullDescription":
+                    return "EntityRef{id = " + id + (alive ? "" : ", dead") + "}";
+                default:
+                    throw StandIns.unsupported(EntityRef.class, name);
+            }
+        }
+
+        private Component add(Component component) {
+            if (!alive) {
+                return component;
+            }
+            components.put(component.getClass(), component);
+            List<Class<? extends Component>> type = Collections.singletonList(component.getClass());
+            eventBus.sendLifecycle(ref, OnAddedComponent.newInstance(), type);
+            eventBus.sendLifecycle(ref, OnActivatedComponent.newInstance(), type);
+            return component;
+        }
+
+        private void save(Component component) {
+            if (!alive || !components.containsKey(component.getClass())) {
+                return;
+            }
+            components.put(component.getClass(), component);
+            eventBus.sendLifecycle(ref, OnChangedComponent.newInstance(),
+                    Collections.singletonList(component.getClass()));
+        }
+
+        private void remove(Class<? extends Component> type) {
+            if (!alive || !components.containsKey(type)) {
+                return;
+            }
+            List<Class<? extends Component>> types = Collections.singletonList(type);
+            eventBus.sendLifecycle(ref, BeforeDeactivateComponent.newInstance(), types);
+            eventBus.sendLifecycle(ref, BeforeRemoveComponent.newInstance(), types);
+            components.remove(type);
+        }
+
+        private void destroy() {
+            if (!alive) {
+                return;
+            }
+            List<Class<? extends Component>> types = types();
+            eventBus.sendLifecycle(ref, BeforeDeactivateComponent.newInstance(), types);
+            eventBus.sendLifecycle(ref, BeforeRemoveComponent.newInstance(), types);
+            entities.remove(id);
+            alive = false;
+            components.clear();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.headless;
+
+import com.google.common.collect.ImmutableSet;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeRemoveComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnAddedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.event.ConsumableEvent;
+import org.terasology.engine.entitySystem.event.EventPriority;
+import org.terasology.engine.entitySystem.event.Priority;
+import org.terasology.gestalt.entitysystem.component.Component;
+import org.terasology.gestalt.entitysystem.event.Event;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Delivers events to the {@link ReceiveEvent} methods of the simulated systems the way the engine's event system
+ * does: a handler runs if the entity has all the components it asks for, in order of {@link Priority}, until a
+ * consumable event is consumed. Lifecycle events only reach the handlers interested in one of the components they are
+ * about.
+ */
+public class HeadlessEventBus {
+    private static final Set<Class<?>> LIFECYCLE_EVENTS = ImmutableSet.of(
+            OnAddedComponent.class,
+            OnActivatedComponent.class,
+            OnChangedComponent.class,
+            BeforeDeactivateComponent.class,
+            BeforeRemoveComponent.class
+    );
+
+    private final List<Handler> handlers = new ArrayList<>();
+    private final Map<Class<?>, List<Handler>> handlersByEvent = new HashMap<>();
+
+    /**
+     * Subscribes all {@link ReceiveEvent} methods of a system.
+     */
+    @SuppressWarnings("unchecked")
+    public void register(Object system) {
+        for (Method method : system.getClass().getMethods()) {
+            ReceiveEvent receiveEvent = method.getAnnotation(ReceiveEvent.class);
+            if (receiveEvent == null) {
+                continue;
+            }
+            Class<?>[] parameters = method.getParameterTypes();
+            Set<Class<? extends Component>> required = new LinkedHashSet<>();
+            for (Class<? extends Component> type : receiveEvent.components()) {
+                required.add(type);
+            }
+            Class<? extends Component>[] componentParameters = new Class[parameters.length - 2];
+            for (int i = 2; i < parameters.length; i++) {
+                componentParameters[i - 2] = (Class<? extends Component>) parameters[i];
+                required.add(componentParameters[i - 2]);
+            }
+            Priority priority = method.getAnnotation(Priority.class);
+            handlers.add(new Handler(system, method, parameters[0], componentParameters, required,
+                    priority != null ? priority.value() : EventPriority.PRIORITY_NORMAL));
+        }
+        handlersByEvent.clear();
+    }
+
+    /**
+     * Sends an event to an entity, as {@link EntityRef#send(Event)} does.
+     */
+    public <T extends Event> T send(EntityRef entity, T event) {
+        dispatch(entity, event, null);
+        return event;
+    }
+
+    /**
+     * Sends a lifecycle event about some of the components of an entity.
+     */
+    public void sendLifecycle(EntityRef entity, Event event, Collection<Class<? extends Component>> types) {
+        dispatch(entity, event, types);
+    }
+
+    private void dispatch(EntityRef entity, Event event, Collection<Class<? extends Component>> types) {
+        boolean lifecycle = types != null && LIFECYCLE_EVENTS.contains(event.getClass());
+        for (Handler handler : getHandlers(event.getClass())) {
+            if (lifecycle && !handler.isAbout(types)) {
+                continue;
+            }
+            if (!handler.accepts(entity)) {
+                continue;
+            }
+            handler.invoke(event, entity);
+            if (event instanceof ConsumableEvent && ((ConsumableEvent) event).isConsumed()) {
+                return;
+            }
+        }
+    }
+
+    private List<Handler> getHandlers(Class<?> eventType) {
+        return handlersByEvent.computeIfAbsent(eventType, key -> {
+            List<Handler> matching = new ArrayList<>();
+            for (Handler handler : handlers) {
+                if (handler.eventType.isAssignableFrom(key)) {
+                    matching.add(handler);
+                }
+            }
+            // stable, so handlers of the same priority run in the order their systems were registered
+            matching.sort(Comparator.comparingInt((Handler handler) -> handler.priority).reversed());
+            return matching;
+        });
+    }
+
+    private static final class Handler {
+        private final Object system;
+        private final Method method;
+        private final Class<?> eventType;
+        private final Class<? extends Component>[] componentParameters;
+        private final Set<Class<? extends Component>> required;
+        private final int priority;
+
+        private Handler(Object system, Method method, Class<?> eventType,
+                        Class<? extends Component>[] componentParameters, Set<Class<? extends Component>> required,
+                        int priority) {
+            this.system = system;
+            this.method = method;
+            this.eventType = eventType;
+            this.componentParameters = componentParameters;
+            this.required = required;
+            this.priority = priority;
+        }
+
+        private boolean isAbout(Collection<Class<? extends Component>> types) {
+            for (Class<? extends Component> type : types) {
+                if (required.contains(type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean accepts(EntityRef entity) {
+            for (Class<? extends Component> type : required) {
+                if (!entity.hasComponent(type)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void invoke(Event event, EntityRef entity) {
+            Object[] args = new Object[2 + componentParameters.length];
+            args[0] = event;
+            args[1] = entity;
+            for (int i = 0; i < componentParameters.length; i++) {
+                args[2 + i] = entity.getComponent(componentParameters[i]);
+            }
+            try {
+                method.invoke(system, args);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot call " + method, e);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(method + " failed", e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.headless;
+
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.world.WorldProvider;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.chunks.Chunk;
+import org.terasology.engine.world.chunks.ChunkProvider;
+import org.terasology.engine.world.chunks.Chunks;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A world of {@link SyntheticTerrain} in which the harness decides which chunks are loaded, behind stand-ins for the
+ * {@link WorldProvider} and the {@link ChunkProvider}.
+ * <p>
+ * Blocks of chunks that are not loaded read as air, as they do on a server.
+ */
+public class HeadlessWorld {
+    private final SyntheticTerrain terrain;
+    private final String seed;
+    private final Block air;
+
+    private final Map<Vector3i, Chunk> loadedChunks = new HashMap<>();
+    private final Set<Vector3i> generatedChunks = new HashSet<>();
+    private final Vector3i lookup = new Vector3i();
+
+    private final WorldProvider worldProvider = StandIns.of(WorldProvider.class, this::handleWorld);
+    private final ChunkProvider chunkProvider = StandIns.of(ChunkProvider.class, this::handleChunks);
+
+    public HeadlessWorld(SyntheticTerrain terrain, TestBlocks blocks, String seed) {
+        this.terrain = terrain;
+        this.air = blocks.air;
+        this.seed = seed;
+    }
+
+    public WorldProvider getWorldProvider() {
+        return worldProvider;
+    }
+
+    public ChunkProvider getChunkProvider() {
+        return chunkProvider;
+    }
+
+    public SyntheticTerrain getTerrain() {
+        return terrain;
+    }
+
+    /**
+     * Loads a chunk.
+     *
+     * @return true if the chunk had never been loaded before, i.e. has just been generated
+     */
+    public boolean load(Vector3ic chunkPos) {
+        Vector3i key = new Vector3i(chunkPos);
+        loadedChunks.computeIfAbsent(key, this::createChunk);
+        return generatedChunks.add(key);
+    }
+
+    public void unload(Vector3ic chunkPos) {
+        loadedChunks.remove(lookup.set(chunkPos));
+    }
+
+    public boolean isLoaded(Vector3ic chunkPos) {
+        return loadedChunks.containsKey(lookup.set(chunkPos));
+    }
+
+    public Set<Vector3i> getLoadedChunks() {
+        return loadedChunks.keySet();
+    }
+
+    public int getGeneratedChunkCount() {
+        return generatedChunks.size();
+    }
+
+    public Block getBlock(int x, int y, int z) {
+        return isBlockLoaded(x, y, z) ? terrain.getBlock(x, y, z) : air;
+    }
+
+    private boolean isBlockLoaded(int x, int y, int z) {
+        lookup.set(Math.floorDiv(x, Chunks.SIZE_X), Math.floorDiv(y, Chunks.SIZE_Y), Math.floorDiv(z, Chunks.SIZE_Z));
+        return loadedChunks.containsKey(lookup);
+    }
+
+    private Object handleWorld(String name, Object[] args) {
+        switch (name) {
+            case "getSeed":
+                return seed;
+            case "getBlock":
+                if (args.length == 3) {
+                    return getBlock((Integer) args[0], (Integer) args[1], (Integer) args[2]);
+                }
+                Vector3ic pos = (Vector3ic) args[0];
+                return getBlock(pos.x(), pos.y(), pos.z());
+            case "isBlockRelevant":
+                if (args.length == 3) {
+                    return isBlockLoaded((Integer) args[0], (Integer) args[1], (Integer) args[2]);
+                }
+                Vector3ic blockPos = (Vector3ic) args[0];
+                return isBlockLoaded(blockPos.x(), blockPos.y(), blockPos.z());
+            default:
+                throw StandIns.unsupported(WorldProvider.class, name);
+        }
+    }
+
+    private Object handleChunks(String name, Object[] args) {
+        switch (name) {
+            case "getChunk":
+                if (args.length == 3) {
+                    return loadedChunks.get(lookup.set((Integer) args[0], (Integer) args[1], (Integer) args[2]));
+                }
+                return loadedChunks.get(lookup.set((Vector3ic) args[0]));
+            case "isChunkReady":
+                return isLoaded((Vector3ic) args[0]);
+            default:
+                throw StandIns.unsupported(ChunkProvider.class, name);
+        }
+    }
+
+    private Chunk createChunk(Vector3ic chunkPos) {
+        Vector3i position = new Vector3i(chunkPos);
+        int worldX = chunkPos.x() * Chunks.SIZE_X;
+        int worldY = chunkPos.y() * Chunks.SIZE_Y;
+        int worldZ = chunkPos.z() * Chunks.SIZE_Z;
+        return StandIns.of(Chunk.class, (name, args) -> {
+            switch (name) {
+                case "getBlock":
+                    if (args.length == 3) {
+                        return terrain.getBlock(worldX + (Integer) args[0], worldY + (Integer) args[1],
+                                worldZ + (Integer) args[2]);
+                    }
+                    Vector3ic pos = (Vector3ic) args[0];
+                    return terrain.getBlock(worldX + pos.x(), worldY + pos.y(), worldZ + pos.z());
+                case "getPosition":
+                    return position;
+                case "isReady":
+                    return true;
+                default:
+                    throw StandIns.unsupported(Chunk.class, name);
+            }
+        });
+    }
+}
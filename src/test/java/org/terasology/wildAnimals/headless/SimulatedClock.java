@@ -0,0 +1,61 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.headless;
+
+import org.terasology.engine.core.Time;
+
+/**
+ * Game time that only moves when the harness says so, so a simulation runs as fast as the systems allow rather than
+ * at the pace of a real server.
+ */
+public class SimulatedClock {
+    private long gameTimeMs;
+    private long deltaMs;
+    private final Time time = StandIns.of(Time.class, this::handle);
+
+    /**
+     * Moves the game time forward by one tick.
+     *
+     * @param tickMs the duration of the tick in milliseconds of game time
+     */
+    public void advance(long tickMs) {
+        deltaMs = tickMs;
+        gameTimeMs += tickMs;
+    }
+
+    public long getGameTimeMs() {
+        return gameTimeMs;
+    }
+
+    /**
+     * @return the duration of the last tick in seconds of game time
+     */
+    public float getDelta() {
+        return deltaMs / 1000f;
+    }
+
+    /**
+     * @return the engine view of the clock, to be injected into the systems
+     */
+    public Time getTime() {
+        return time;
+    }
+
+    private Object handle(String name, Object[] args) {
+        switch (name) {
+            case "getGameTimeInMs":
+            case "getRealTimeInMs":
+                return gameTimeMs;
+            case "getGameTime":
+                return gameTimeMs / 1000f;
+            case "getGameDeltaInMs":
+            case "getRealDeltaInMs":
+                return deltaMs;
+            case "getGameDelta":
+            case "getRealDelta":
+                return getDelta();
+            default:
+                throw StandIns.unsupported(Time.class, name);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.headless;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+/**
+ * Implements engine interfaces by handing their calls to a plain method of the harness, by name.
+ * <p>
+ * Calls the harness does not handle fail loudly, so a system starting to depend on more of the engine shows up as a
+ * failing test rather than as a silently wrong simulation. Proxies are cheaper per call than mocks, which matters for
+ * the block lookups of the world.
+ */
+final class StandIns {
+
+    private StandIns() {
+    }
+
+    /**
+     * Answers a call of the stand-in.
+     */
+    @FunctionalInterface
+    interface Handler {
+        /**
+         * @param name the name of the called method
+         * @param args the arguments of the call, never null
+         * @return the result of the call
+         * @throws UnsupportedOperationException if the harness does not simulate the method
+         */
+        Object handle(String name, Object[] args);
+    }
+
+    static <T> T of(Class<T> type, Handler handler) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            Object[] arguments = args != null ? args : new Object[0];
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return self == arguments[0];
+                    case "hashCode":
+                        return System.identityHashCode(self);
+                    default:
+                        return "headless " + type.getSimpleName();
+                }
+            }
+            try {
+                return handler.handle(method.getName(), arguments);
+            } catch (UnsupportedOperationException e) {
+                // default methods are built on the others, so they work as implemented
+                if (method.isDefault()) {
+                    return InvocationHandler.invokeDefault(self, method, arguments);
+                }
+                throw e;
+            }
+        });
+        return type.cast(proxy);
+    }
+
+    static UnsupportedOperationException unsupported(Class<?> type, String name) {
+        return new UnsupportedOperationException(type.getSimpleName() + "." + name
+                + " is not simulated by the headless harness");
+    }
+}
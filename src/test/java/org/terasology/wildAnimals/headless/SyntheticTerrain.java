@@ -0,0 +1,93 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.headless;
+
+import org.joml.Vector3ic;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.wildAnimals.spawn.ChunkSnapshot;
+
+/**
+ * Endless generated terrain made of {@link TestBlocks}, a grass surface over dirt and stone.
+ * <p>
+ * Every block only depends on its position and the kind of terrain, so chunks can be generated in any order, thrown
+ * away and generated again, and the same world comes out on every run and every machine.
+ */
+public class SyntheticTerrain {
+
+    /**
+     * The world height of the surface of flat terrain, in the middle of the chunks at y 0.
+     */
+    public static final int BASE_HEIGHT = Chunks.SIZE_Y / 2;
+
+    public enum Kind {
+        /** Grass everywhere, the most spawn sites per chunk. */
+        FLAT,
+        /** Rolling hills, so columns differ in height. */
+        HILLY,
+        /** Flat grass over stone riddled with air, the most blocks to look at per site. */
+        CAVES
+    }
+
+    private final TestBlocks blocks;
+    private final Kind kind;
+
+    public SyntheticTerrain(TestBlocks blocks, Kind kind) {
+        this.blocks = blocks;
+        this.kind = kind;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int surfaceHeight(int x, int z) {
+        if (kind != Kind.HILLY) {
+            return BASE_HEIGHT;
+        }
+        return BASE_HEIGHT + (int) (Chunks.SIZE_Y / 4 * Math.sin(x * 0.4) * Math.cos(z * 0.3));
+    }
+
+    public Block getBlock(int x, int y, int z) {
+        int height = surfaceHeight(x, z);
+        if (y > height) {
+            return blocks.air;
+        }
+        if (y == height) {
+            return blocks.grass;
+        }
+        if (y > height - 4) {
+            return blocks.dirt;
+        }
+        if (kind == Kind.CAVES && Math.floorMod(hash(x, y, z), 3) == 0) {
+            return blocks.air;
+        }
+        return blocks.stone;
+    }
+
+    /**
+     * @return the blocks of a chunk and of the layers directly above and below it, as taken by
+     *         {@link ChunkSnapshot#of(Vector3ic, Block[])}
+     */
+    public Block[] generate(Vector3ic chunkPos) {
+        Block[] terrain = new Block[ChunkSnapshot.terrainSize()];
+        int worldX = chunkPos.x() * Chunks.SIZE_X;
+        int worldY = chunkPos.y() * Chunks.SIZE_Y;
+        int worldZ = chunkPos.z() * Chunks.SIZE_Z;
+        for (int y = -1; y <= Chunks.SIZE_Y; y++) {
+            for (int z = 0; z < Chunks.SIZE_Z; z++) {
+                for (int x = 0; x < Chunks.SIZE_X; x++) {
+                    terrain[ChunkSnapshot.terrainIndex(x, y, z)] = getBlock(worldX + x, worldY + y, worldZ + z);
+                }
+            }
+        }
+        return terrain;
+    }
+
+    private static int hash(int x, int y, int z) {
+        int hash = x * 0x1F1F1F1F ^ y * 0x5F356495 ^ z * 0x2C1B3C6D;
+        hash ^= hash >>> 15;
+        hash *= 0x2C1B3C6D;
+        return hash ^ hash >>> 12;
+    }
+}
@@ -0,0 +1,86 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.headless;
+
+import com.google.common.collect.ImmutableList;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.block.BlockManager;
+import org.terasology.engine.world.block.BlockUri;
+import org.terasology.engine.world.block.family.BlockFamily;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * The few blocks the synthetic terrain is made of, registered with a {@link BlockManager} stand-in.
+ */
+public final class TestBlocks {
+    public final Block air = create(0, "engine:air", true);
+    public final Block grass = create(1, "CoreAssets:Grass", false);
+    public final Block dirt = create(2, "CoreAssets:Dirt", false);
+    public final Block stone = create(3, "CoreAssets:Stone", false);
+    public final Block tallGrass = create(4, "CoreAssets:TallGrass1", true);
+
+    private final List<Block> blocks = ImmutableList.of(air, grass, dirt, stone, tallGrass);
+    private final Map<String, Block> blocksByUri = new HashMap<>();
+    private final BlockManager blockManager = mock(BlockManager.class, withSettings().stubOnly());
+
+    public TestBlocks() {
+        for (Block block : blocks) {
+            blocksByUri.put(block.getURI().toString().toLowerCase(), block);
+        }
+        doAnswer(invocation -> getBlock(invocation.getArgument(0).toString()))
+                .when(blockManager).getBlock(anyString());
+        doAnswer(invocation -> getBlock(invocation.getArgument(0).toString()))
+                .when(blockManager).getBlock(any(BlockUri.class));
+        doAnswer(invocation -> blocks).when(blockManager).listRegisteredBlocks();
+        doAnswer(invocation -> getFamily(invocation.getArgument(0).toString()))
+                .when(blockManager).getBlockFamily(anyString());
+    }
+
+    public BlockManager getBlockManager() {
+        return blockManager;
+    }
+
+    /**
+     * @return the block with the given URI, or air as the real block manager would for unknown blocks
+     */
+    public Block getBlock(String uri) {
+        return blocksByUri.getOrDefault(uri.toLowerCase(), air);
+    }
+
+    private BlockFamily getFamily(String uri) {
+        Block block = blocksByUri.get(uri.toLowerCase());
+        if (block == null) {
+            return null;
+        }
+        List<Block> familyBlocks = ImmutableList.of(block);
+        return StandIns.of(BlockFamily.class, (name, args) -> {
+            switch (name) {
+                case "getBlocks":
+                    return familyBlocks;
+                case "getArchetypeBlock":
+                    return block;
+                case "getURI":
+                    return block.getURI();
+                default:
+                    throw StandIns.unsupported(BlockFamily.class, name);
+            }
+        });
+    }
+
+    private static Block create(int id, String uri, boolean penetrable) {
+        Block block = new Block();
+        block.setId((short) id);
+        block.setUri(new BlockUri(uri));
+        block.setPenetrable(penetrable);
+        return block;
+    }
+}
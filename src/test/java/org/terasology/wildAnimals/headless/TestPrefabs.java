@@ -0,0 +1,127 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.headless;
+
+import com.google.common.collect.ImmutableList;
+import org.terasology.engine.context.internal.ContextImpl;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.entitySystem.prefab.PrefabManager;
+import org.terasology.engine.registry.CoreRegistry;
+import org.terasology.gestalt.assets.ResourceUrn;
+import org.terasology.gestalt.assets.management.AssetManager;
+import org.terasology.gestalt.entitysystem.component.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Prefabs defined in code, offered to the systems through a {@link PrefabManager} stand-in and, for code resolving
+ * prefabs by name through {@code Assets}, through the {@link AssetManager} of the {@link CoreRegistry}.
+ * Other assets, e.g. behavior trees, are not available.
+ */
+public class TestPrefabs {
+    private final Map<String, Prefab> prefabs = new LinkedHashMap<>();
+    private final PrefabManager prefabManager = StandIns.of(PrefabManager.class, this::handle);
+    private final AssetManager assetManager = mock(AssetManager.class, withSettings().stubOnly());
+
+    public TestPrefabs() {
+        doAnswer(invocation -> getAsset(invocation.getArgument(0).toString(), invocation.getArgument(1)))
+                .when(assetManager).getAsset(anyString(), any());
+    }
+
+    /**
+     * Defines a prefab. Its components are copied for every entity created from it, as with real prefabs.
+     *
+     * @param urn e.g. "WildAnimals:deer"
+     */
+    public Prefab define(String urn, Component... components) {
+        ResourceUrn resourceUrn = new ResourceUrn(urn);
+        List<Component> prefabComponents = ImmutableList.copyOf(components);
+        Map<Class<?>, Component> byType = new LinkedHashMap<>();
+        for (Component component : prefabComponents) {
+            byType.put(component.getClass(), component);
+        }
+        Prefab prefab = mock(Prefab.class, withSettings().stubOnly().defaultAnswer(invocation -> {
+            Object[] args = invocation.getArguments();
+            switch (invocation.getMethod().getName()) {
+                case "getComponent":
+                    return byType.get((Class<?>) args[0]);
+                case "hasComponent":
+                    return byType.containsKey((Class<?>) args[0]);
+                case "iterateComponents":
+                    return prefabComponents;
+                case "getUrn":
+                    return resourceUrn;
+                case "getName":
+                case "toString":
+                    return resourceUrn.toString();
+                case "isPersisted":
+                    return true;
+                case "isDisposed":
+                    return false;
+                case "getParent":
+                    return null;
+                case "getChildren":
+                    return ImmutableList.of();
+                default:
+                    throw StandIns.unsupported(Prefab.class, invocation.getMethod().getName());
+            }
+        }));
+        prefabs.put(resourceUrn.toString().toLowerCase(), prefab);
+        return prefab;
+    }
+
+    public Prefab get(String urn) {
+        return prefabs.get(urn.toLowerCase());
+    }
+
+    public PrefabManager getPrefabManager() {
+        return prefabManager;
+    }
+
+    /**
+     * Makes the prefabs available to {@code Assets.getPrefab}, which looks them up through the {@link CoreRegistry}.
+     */
+    public void installInCoreRegistry() {
+        ContextImpl context = new ContextImpl();
+        context.put(AssetManager.class, assetManager);
+        context.put(PrefabManager.class, prefabManager);
+        CoreRegistry.setContext(context);
+    }
+
+    private Optional<?> getAsset(String urn, Class<?> type) {
+        if (type != Prefab.class) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(get(urn));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object handle(String name, Object[] args) {
+        switch (name) {
+            case "getPrefab":
+                return get(args[0].toString());
+            case "exists":
+                return get(args[0].toString()) != null;
+            case "listPrefabs":
+                List<Prefab> result = new ArrayList<>();
+                for (Prefab prefab : prefabs.values()) {
+                    if (args.length == 0 || prefab.hasComponent((Class<? extends Component>) args[0])) {
+                        result.add(prefab);
+                    }
+                }
+                return result;
+            default:
+                throw StandIns.unsupported(PrefabManager.class, name);
+        }
+    }
+}
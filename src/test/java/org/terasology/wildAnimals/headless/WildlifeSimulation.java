@@ -0,0 +1,534 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.headless;
+
+import com.google.common.collect.Lists;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.core.Time;
+import org.terasology.engine.entitySystem.entity.EntityManager;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.entitySystem.prefab.PrefabManager;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.logic.delay.DelayManager;
+import org.terasology.engine.logic.health.BeforeDestroyEvent;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.network.ClientComponent;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.rendering.logic.SkeletalMeshComponent;
+import org.terasology.engine.world.WorldComponent;
+import org.terasology.engine.world.WorldProvider;
+import org.terasology.engine.world.block.BlockManager;
+import org.terasology.engine.world.chunks.ChunkProvider;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.chunks.event.BeforeChunkUnload;
+import org.terasology.engine.world.chunks.event.OnChunkGenerated;
+import org.terasology.engine.world.chunks.event.OnChunkLoaded;
+import org.terasology.gestalt.entitysystem.event.Event;
+import org.terasology.wildAnimals.Death.DeathSystem;
+import org.terasology.wildAnimals.Death.DestroyAtAnimationEndComponent;
+import org.terasology.wildAnimals.Death.DieComponent;
+import org.terasology.wildAnimals.component.WildAnimalComponent;
+import org.terasology.wildAnimals.component.WildAnimalGrowthComponent;
+import org.terasology.wildAnimals.component.WildAnimalSpawnComponent;
+import org.terasology.wildAnimals.flock.WildAnimalsFlockSystem;
+import org.terasology.wildAnimals.lod.WildAnimalHibernationSystem;
+import org.terasology.wildAnimals.lod.WildAnimalLodSystem;
+import org.terasology.wildAnimals.metrics.Timer;
+import org.terasology.wildAnimals.metrics.WildlifeMetricsSystem;
+import org.terasology.wildAnimals.spatial.WildAnimalSpatialIndex;
+import org.terasology.wildAnimals.spawn.SpawnSiteIndexSystem;
+import org.terasology.wildAnimals.spawn.SpawnSites;
+import org.terasology.wildAnimals.species.Species;
+import org.terasology.wildAnimals.species.SpeciesRegistry;
+import org.terasology.wildAnimals.system.WildAnimalsGrowthSystem;
+import org.terasology.wildAnimals.system.WildAnimalsPopulationSystem;
+import org.terasology.wildAnimals.system.WildAnimalsRepopulationSystem;
+import org.terasology.wildAnimals.system.WildAnimalsSpawnSystem;
+import org.terasology.wildAnimals.util.WildAnimalEntities;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Runs the WildAnimals server systems without an engine, to find scaling cliffs before a release.
+ * <p>
+ * The systems are wired to in-memory stand-ins for the world, the entity manager, the delay manager and the time.
+ * Game time advances by a fixed tick no matter how long the tick took, so minutes of game time pass in seconds.
+ * One simulated player stands in a {@link SyntheticTerrain} world, with the chunks around it loaded, while a
+ * {@link Scenario} puts load on the systems:
+ * <ul>
+ *     <li>{@link Scenario#IDLE} lets the player stand still</li>
+ *     <li>{@link Scenario#FLYOVER} flies the player across the world, generating and unloading chunks</li>
+ *     <li>{@link Scenario#HUNTING} keeps the area full of animals and kills them, for the {@link DeathSystem}</li>
+ *     <li>{@link Scenario#BABYBOOM} spawns young animals, for the {@link WildAnimalsGrowthSystem}</li>
+ * </ul>
+ * The tick work is the time spent in the systems' updates and event handlers, not the time between ticks, which
+ * would include the harness. It is reported by {@link #report()} as JSON, together with the allocation rate, the peak
+ * number of entities and animals, the peak heap and the metrics of the {@link WildlifeMetricsSystem}.
+ */
+public class WildlifeSimulation {
+    public static final String DEER = "WildAnimals:deer";
+    public static final String FAWN = "WildAnimals:fawn";
+    private static final String DIRECT_DAMAGE = "engine:directDamage";
+
+    public enum Scenario {
+        IDLE,
+        FLYOVER,
+        HUNTING,
+        BABYBOOM
+    }
+
+    /**
+     * What the simulation looks like, to be changed before {@link #start(Scenario)}.
+     */
+    public static class Settings {
+        public SyntheticTerrain.Kind terrain = SyntheticTerrain.Kind.HILLY;
+        public String seed = "WildAnimals soak";
+        /**
+         * The duration of a tick in milliseconds of game time.
+         */
+        public long tickMs = 50;
+        /**
+         * The number of chunks loaded in each direction around the player, horizontally.
+         */
+        public int viewDistance = 4;
+        /**
+         * The speed of the player in {@link Scenario#FLYOVER}, in blocks per second of game time.
+         */
+        public float flySpeed = 40;
+        /**
+         * The number of animals {@link Scenario#HUNTING} keeps around the player.
+         */
+        public int huntedAnimals = 300;
+        public int killsPerTick = 5;
+        public int birthsPerTick = 5;
+        /**
+         * The number of young animals after which {@link Scenario#BABYBOOM} stops spawning more.
+         */
+        public int maxBirths = 1000;
+    }
+
+    private final Settings settings;
+
+    private final SimulatedClock clock = new SimulatedClock();
+    private final HeadlessEventBus eventBus = new HeadlessEventBus();
+    private final HeadlessEntityManager entities = new HeadlessEntityManager(eventBus);
+    private final HeadlessDelayManager delays = new HeadlessDelayManager(clock);
+    private final TestBlocks blocks = new TestBlocks();
+    private final TestPrefabs prefabs = new TestPrefabs();
+    private final HeadlessWorld world;
+
+    private final Map<Class<?>, Object> registry = new HashMap<>();
+    private final List<BaseComponentSystem> systems = new ArrayList<>();
+    private final List<UpdateSubscriberSystem> updateSubscribers = new ArrayList<>();
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    private final SplittableRandom random;
+    private final Vector3f playerPosition = new Vector3f();
+    private final Vector3f animalPosition = new Vector3f();
+    private final Vector3i playerChunk = new Vector3i();
+    private final Vector3i spawnPosition = new Vector3i();
+    private final Quaternionf rotation = new Quaternionf();
+
+    private Scenario scenario;
+    private EntityRef worldEntity = EntityRef.NULL;
+    private EntityRef character = EntityRef.NULL;
+
+    private final Timer tickWork = new Timer();
+    private long tickWorkNanos;
+    private long ticks;
+    private long births;
+    private long kills;
+    private long startAllocatedBytes;
+    private int peakAnimals;
+    private long peakHeapBytes;
+
+    public WildlifeSimulation(Settings settings) {
+        this.settings = settings;
+        this.random = new SplittableRandom(settings.seed.hashCode());
+        this.world = new HeadlessWorld(new SyntheticTerrain(blocks, settings.terrain), blocks, settings.seed);
+        defineDeer(prefabs);
+        prefabs.define(DIRECT_DAMAGE);
+        prefabs.installInCoreRegistry();
+
+        registry.put(Time.class, clock.getTime());
+        registry.put(EntityManager.class, entities.getEntityManager());
+        registry.put(DelayManager.class, delays.getDelayManager());
+        registry.put(WorldProvider.class, world.getWorldProvider());
+        registry.put(ChunkProvider.class, world.getChunkProvider());
+        registry.put(BlockManager.class, blocks.getBlockManager());
+        registry.put(PrefabManager.class, prefabs.getPrefabManager());
+
+        // in the order the engine initialises them, as systems share nothing until they are initialised
+        add(new WildlifeMetricsSystem());
+        add(new SpeciesRegistry());
+        add(new WildAnimalsPopulationSystem());
+        add(new WildAnimalSpatialIndex());
+        add(new WildAnimalsFlockSystem());
+        add(new WildAnimalHibernationSystem());
+        add(new WildAnimalLodSystem());
+        add(new SpawnSiteIndexSystem());
+        add(new WildAnimalsSpawnSystem());
+        add(new WildAnimalsGrowthSystem());
+        add(new DeathSystem());
+        add(new WildAnimalsRepopulationSystem());
+    }
+
+    /**
+     * Defines an adult deer spawning on grass, and a fawn growing into it within a few seconds.
+     */
+    public static void defineDeer(TestPrefabs prefabs) {
+        WildAnimalComponent deer = new WildAnimalComponent();
+        deer.name = "Deer";
+        prefabs.define(DEER, new LocationComponent(), deer, new WildAnimalSpawnComponent(), new DieComponent(),
+                new SkeletalMeshComponent());
+
+        WildAnimalComponent fawn = new WildAnimalComponent();
+        fawn.name = "Deer";
+        WildAnimalGrowthComponent growth = new WildAnimalGrowthComponent();
+        growth.minGrowthTime = 2000;
+        growth.maxGrowthTime = 8000;
+        growth.nextStagePrefab = DEER;
+        prefabs.define(FAWN, new LocationComponent(), fawn, growth, new DieComponent(), new SkeletalMeshComponent());
+    }
+
+    private void add(BaseComponentSystem system) {
+        registry.put(system.getClass(), system);
+        systems.add(system);
+        if (system instanceof UpdateSubscriberSystem) {
+            updateSubscribers.add((UpdateSubscriberSystem) system);
+        }
+    }
+
+    /**
+     * @return the system of the given class, e.g. to configure it before the simulation starts
+     */
+    public <T> T get(Class<T> type) {
+        Object system = registry.get(type);
+        if (system == null) {
+            throw new IllegalArgumentException(type.getSimpleName() + " is not part of the simulation");
+        }
+        return type.cast(system);
+    }
+
+    public HeadlessEntityManager getEntities() {
+        return entities;
+    }
+
+    public HeadlessWorld getWorld() {
+        return world;
+    }
+
+    public SimulatedClock getClock() {
+        return clock;
+    }
+
+    public TestPrefabs getPrefabs() {
+        return prefabs;
+    }
+
+    /**
+     * Injects and initialises the systems, places the player and loads the chunks around it.
+     */
+    public void start(Scenario requested) {
+        for (BaseComponentSystem system : systems) {
+            inject(system);
+        }
+        for (BaseComponentSystem system : systems) {
+            system.initialise();
+            eventBus.register(system);
+        }
+        scenario = requested;
+        worldEntity = entities.create(null, Lists.newArrayList(new WorldComponent()));
+        LocationComponent location = new LocationComponent();
+        location.setWorldPosition(new Vector3f(0.5f, SyntheticTerrain.BASE_HEIGHT + 2, 0.5f));
+        character = entities.create(null, Lists.newArrayList(location));
+        ClientComponent client = new ClientComponent();
+        client.character = character;
+        entities.create(null, Lists.newArrayList(client));
+
+        get(WildlifeMetricsSystem.class).reset();
+        startAllocatedBytes = getAllocatedBytes();
+        streamChunks();
+    }
+
+    /**
+     * Stops the systems, e.g. their worker threads.
+     */
+    public void stop() {
+        for (BaseComponentSystem system : systems) {
+            system.shutdown();
+        }
+    }
+
+    /**
+     * Runs ticks until the given game time has passed.
+     */
+    public void runFor(float seconds) {
+        long ticksToRun = (long) Math.ceil(seconds * 1000 / settings.tickMs);
+        for (long i = 0; i < ticksToRun; i++) {
+            tick();
+        }
+    }
+
+    /**
+     * Advances the game time by one tick, lets the scenario act and updates the systems.
+     */
+    public void tick() {
+        clock.advance(settings.tickMs);
+        tickWorkNanos = 0;
+        drive();
+        long start = System.nanoTime();
+        delays.update();
+        for (UpdateSubscriberSystem system : updateSubscribers) {
+            system.update(clock.getDelta());
+        }
+        tickWorkNanos += System.nanoTime() - start;
+        tickWork.record(tickWorkNanos);
+        ticks++;
+        peakAnimals = Math.max(peakAnimals, get(WildAnimalsPopulationSystem.class).getTotalPopulation());
+        if (ticks % 20 == 0) {
+            peakHeapBytes = Math.max(peakHeapBytes, memory.getHeapMemoryUsage().getUsed());
+        }
+    }
+
+    private void drive() {
+        switch (scenario) {
+            case FLYOVER:
+                character.getComponent(LocationComponent.class).getWorldPosition(playerPosition);
+                playerPosition.x += settings.flySpeed * clock.getDelta();
+                character.getComponent(LocationComponent.class).setWorldPosition(playerPosition);
+                streamChunks();
+                break;
+            case HUNTING:
+                populate();
+                hunt();
+                break;
+            case BABYBOOM:
+                if (births < settings.maxBirths) {
+                    int count = (int) Math.min(settings.birthsPerTick, settings.maxBirths - births);
+                    births += spawnAtSites(prefabs.get(FAWN), count);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Loads the chunks within the view distance of the player and unloads those beyond it, sending the chunk events
+     * the engine sends. Only chunks loaded for the first time are generated.
+     */
+    private void streamChunks() {
+        character.getComponent(LocationComponent.class).getWorldPosition(playerPosition);
+        toChunkPos(playerPosition, playerChunk);
+        int distance = settings.viewDistance;
+        for (Vector3i chunkPos : new ArrayList<>(world.getLoadedChunks())) {
+            // one chunk of slack, so chunks at the edge do not flicker
+            if (Math.abs(chunkPos.x - playerChunk.x) > distance + 1
+                    || Math.abs(chunkPos.z - playerChunk.z) > distance + 1) {
+                unloadChunk(chunkPos);
+            }
+        }
+        Vector3i chunkPos = new Vector3i();
+        for (int z = -distance; z <= distance; z++) {
+            for (int x = -distance; x <= distance; x++) {
+                chunkPos.set(playerChunk.x + x, 0, playerChunk.z + z);
+                if (world.isLoaded(chunkPos)) {
+                    continue;
+                }
+                Vector3i loaded = new Vector3i(chunkPos);
+                if (world.load(loaded)) {
+                    send(worldEntity, new OnChunkGenerated(loaded));
+                } else {
+                    send(worldEntity, new OnChunkLoaded(loaded));
+                }
+            }
+        }
+    }
+
+    private void unloadChunk(Vector3ic chunkPos) {
+        send(worldEntity, new BeforeChunkUnload(chunkPos));
+        Vector3i entityChunk = new Vector3i();
+        for (EntityRef entity : entities.getEntitiesWith(LocationComponent.class)) {
+            if (entity == character) {
+                continue;
+            }
+            toChunkPos(entity.getComponent(LocationComponent.class).getWorldPosition(animalPosition), entityChunk);
+            if (entityChunk.equals(chunkPos)) {
+                long start = System.nanoTime();
+                entities.deactivate(entity);
+                tickWorkNanos += System.nanoTime() - start;
+            }
+        }
+        world.unload(chunkPos);
+    }
+
+    /**
+     * @return the chunk at y 0 below or above the position, as only that layer is loaded
+     */
+    private static Vector3i toChunkPos(Vector3f position, Vector3i dest) {
+        return dest.set(Math.floorDiv((int) Math.floor(position.x), Chunks.SIZE_X), 0,
+                Math.floorDiv((int) Math.floor(position.z), Chunks.SIZE_Z));
+    }
+
+    /**
+     * Tops the animals up towards {@link Settings#huntedAnimals}, a tenth of them per tick.
+     */
+    private void populate() {
+        int missing = settings.huntedAnimals - entities.getEntitiesWith(WildAnimalComponent.class).size();
+        if (missing > 0) {
+            spawnAtSites(prefabs.get(DEER), Math.min(missing, settings.huntedAnimals / 10 + 1));
+        }
+    }
+
+    /**
+     * Creates animals on random indexed spawn sites, as other modules or a game master may do.
+     *
+     * @return the number of animals created
+     */
+    private int spawnAtSites(Prefab prefab, int count) {
+        SpawnSiteIndexSystem spawnSiteIndex = get(SpawnSiteIndexSystem.class);
+        Species spawnable = get(SpeciesRegistry.class).getSpecies(prefabs.get(DEER));
+        int created = 0;
+        for (int attempt = 0; attempt < 4 * count && created < count; attempt++) {
+            Vector3ic chunkPos = spawnSiteIndex.nextIndexedChunk();
+            if (chunkPos == null) {
+                break;
+            }
+            SpawnSites sites = spawnSiteIndex.getSpawnSites(chunkPos, spawnable);
+            if (sites.size() == 0) {
+                continue;
+            }
+            SpawnSites.toWorldPosition(sites.get(random.nextInt(sites.size())), chunkPos, spawnPosition);
+            long start = System.nanoTime();
+            // without a seed, as other modules spawn them
+            WildAnimalEntities.create(entities.getEntityManager(), prefab, new Vector3f(spawnPosition), rotation, 0);
+            tickWorkNanos += System.nanoTime() - start;
+            created++;
+        }
+        return created;
+    }
+
+    /**
+     * Kills the oldest living animals, see {@link #kill(EntityRef)}.
+     */
+    private void hunt() {
+        int killed = 0;
+        for (EntityRef animal : entities.getEntitiesWith(WildAnimalComponent.class)) {
+            if (killed >= settings.killsPerTick) {
+                break;
+            }
+            if (animal.hasComponent(DestroyAtAnimationEndComponent.class)) {
+                continue;
+            }
+            long start = System.nanoTime();
+            kill(animal);
+            tickWorkNanos += System.nanoTime() - start;
+            killed++;
+        }
+        kills += killed;
+    }
+
+    /**
+     * Kills an entity as the health system does: it is destroyed unless a handler of the {@link BeforeDestroyEvent}
+     * consumes the event, as the {@link DeathSystem} does for WildAnimals playing their death animation.
+     */
+    public void kill(EntityRef entity) {
+        BeforeDestroyEvent event = entity.send(
+                new BeforeDestroyEvent(EntityRef.NULL, EntityRef.NULL, prefabs.get(DIRECT_DAMAGE)));
+        if (!event.isConsumed()) {
+            entity.destroy();
+        }
+    }
+
+    private void send(EntityRef entity, Event event) {
+        long start = System.nanoTime();
+        entity.send(event);
+        tickWorkNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * @return the distribution of the work done by the systems per tick, in nanoseconds
+     */
+    public Timer getTickWork() {
+        return tickWork;
+    }
+
+    /**
+     * @return the tick work percentiles, the allocation rate, the peak entity and animal counts, the peak heap and
+     *         the WildAnimals metrics as JSON
+     */
+    public String report() {
+        double gameSeconds = Math.max(1e-3, ticks * settings.tickMs / 1000.0);
+        StringBuilder json = new StringBuilder("{\"scenario\":");
+        WildlifeMetricsSystem.appendQuoted(json, scenario.name().toLowerCase(Locale.ROOT));
+        json.append(",\"terrain\":");
+        WildlifeMetricsSystem.appendQuoted(json, settings.terrain.name().toLowerCase(Locale.ROOT));
+        json.append(",\"gameSeconds\":").append(gameSeconds)
+                .append(",\"ticks\":").append(ticks)
+                .append(",\"tickWorkNanos\":");
+        WildlifeMetricsSystem.appendHistogram(json, tickWork);
+        long allocatedBytes = getAllocatedBytes();
+        json.append(",\"allocatedBytesPerGameSecond\":")
+                .append(allocatedBytes >= 0 ? (long) ((allocatedBytes - startAllocatedBytes) / gameSeconds) : -1)
+                .append(",\"generatedChunks\":").append(world.getGeneratedChunkCount())
+                .append(",\"kills\":").append(kills)
+                .append(",\"births\":").append(births)
+                .append(",\"peakEntities\":").append(entities.getPeakCount())
+                .append(",\"peakAnimals\":").append(peakAnimals)
+                .append(",\"peakHeapBytes\":").append(peakHeapBytes)
+                .append(",\"metrics\":").append(get(WildlifeMetricsSystem.class).toJson())
+                .append('}');
+        return json.toString();
+    }
+
+    /**
+     * @return the bytes allocated by this thread so far, including those of the stand-ins, or -1 if the JVM does
+     *         not tell
+     */
+    private long getAllocatedBytes() {
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    /**
+     * Sets the {@link In} fields of a system from the stand-ins and the other systems, by their type.
+     */
+    private void inject(Object system) {
+        for (Class<?> type = system.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!field.isAnnotationPresent(In.class)) {
+                    continue;
+                }
+                Object value = registry.get(field.getType());
+                if (value == null) {
+                    throw new IllegalStateException("Nothing to inject into " + field + ", add a stand-in");
+                }
+                try {
+                    field.setAccessible(true);
+                    field.set(system, value);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot inject " + field, e);
+                }
+            }
+        }
+    }
+}
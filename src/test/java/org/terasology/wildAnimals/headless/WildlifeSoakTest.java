@@ -0,0 +1,110 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.headless;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.wildAnimals.AnimalLodConfig;
+import org.terasology.wildAnimals.AnimalSpawnConfig;
+import org.terasology.wildAnimals.component.WildAnimalComponent;
+import org.terasology.wildAnimals.component.WildAnimalGrowthComponent;
+import org.terasology.wildAnimals.lod.WildAnimalHibernationSystem;
+import org.terasology.wildAnimals.lod.WildAnimalLodSystem;
+import org.terasology.wildAnimals.metrics.WildlifeMetricsSystem;
+import org.terasology.wildAnimals.spawn.SpawnSiteIndexSystem;
+import org.terasology.wildAnimals.system.WildAnimalsPopulationSystem;
+import org.terasology.wildAnimals.system.WildAnimalsSpawnSystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Soaks the WildAnimals systems in the {@link WildlifeSimulation}, checks that the scenarios did what they should and
+ * logs their reports.
+ * <p>
+ * The game time simulated is multiplied by the {@code wildlife.soak.scale} system property, e.g.
+ * {@code gradlew test -Pwildlife.soak.scale=20} for a run of several game hours.
+ */
+public class WildlifeSoakTest {
+    private static final Logger logger = LoggerFactory.getLogger(WildlifeSoakTest.class);
+
+    private static final float SCALE = Float.parseFloat(System.getProperty("wildlife.soak.scale", "1"));
+
+    private WildlifeSimulation simulation;
+
+    @AfterEach
+    public void tearDown() {
+        if (simulation != null) {
+            logger.info("WildAnimals soak: {}", simulation.report());
+            simulation.stop();
+        }
+    }
+
+    @Test
+    public void testFlyoverGeneratesEachChunkOnce() {
+        WildlifeSimulation.Settings settings = new WildlifeSimulation.Settings();
+        simulation = new WildlifeSimulation(settings);
+        simulation.start(WildlifeSimulation.Scenario.FLYOVER);
+        simulation.runFor(60 * SCALE);
+
+        long scans = simulation.get(WildlifeMetricsSystem.class).histogram("spawn.scan.sites").getCount();
+        int generated = simulation.getWorld().getGeneratedChunkCount();
+        int side = 2 * settings.viewDistance + 1;
+        assertTrue(generated > side * side, "the player should have left the chunks loaded at the start");
+        assertEquals(generated, scans, "each generated chunk should be scanned exactly once");
+        int loaded = simulation.getWorld().getLoadedChunks().size();
+        assertTrue(loaded <= (side + 2) * (side + 2));
+        assertTrue(simulation.get(SpawnSiteIndexSystem.class).getIndexedChunkCount() <= loaded,
+                "the spawn sites of unloaded chunks should be unloaded with them");
+    }
+
+    @Test
+    public void testHuntedAnimalsDie() {
+        WildlifeSimulation.Settings settings = new WildlifeSimulation.Settings();
+        simulation = new WildlifeSimulation(settings);
+        simulation.start(WildlifeSimulation.Scenario.HUNTING);
+        simulation.runFor(60 * SCALE);
+
+        long deaths = simulation.get(WildlifeMetricsSystem.class).counter("death.deaths").getCount();
+        assertTrue(deaths > 0);
+        assertTrue(simulation.getEntities().getEntitiesWith(WildAnimalComponent.class).size()
+                <= 2 * settings.huntedAnimals, "dead animals should not pile up");
+    }
+
+    @Test
+    public void testBabyBoomGrowsUp() {
+        WildlifeSimulation.Settings settings = new WildlifeSimulation.Settings();
+        settings.maxBirths = Math.round(settings.maxBirths * SCALE);
+        simulation = new WildlifeSimulation(settings);
+        simulation.start(WildlifeSimulation.Scenario.BABYBOOM);
+        // births take maxBirths / birthsPerTick ticks, the last ones grow up within 8 seconds after that
+        simulation.runFor(settings.maxBirths / settings.birthsPerTick * settings.tickMs / 1000f + 10);
+
+        assertTrue(simulation.getEntities().getEntitiesWith(WildAnimalComponent.class).size() > 0);
+        assertEquals(0, simulation.getEntities().getEntitiesWith(WildAnimalGrowthComponent.class).size(),
+                "all young animals should have grown up");
+    }
+
+    @Test
+    public void testHibernatingAnimalsAreCounted() {
+        simulation = new WildlifeSimulation(new WildlifeSimulation.Settings());
+        AnimalSpawnConfig spawnConfig = new AnimalSpawnConfig();
+        spawnConfig.spawnChanceInPercent = 50;
+        simulation.get(WildAnimalsSpawnSystem.class).setConfig(spawnConfig);
+        AnimalLodConfig lodConfig = new AnimalLodConfig();
+        lodConfig.reducedDistance = 16;
+        lodConfig.suspendedDistance = 32;
+        lodConfig.hibernateDistance = 48;
+        simulation.get(WildAnimalLodSystem.class).setConfig(lodConfig);
+        simulation.start(WildlifeSimulation.Scenario.IDLE);
+        simulation.runFor(30 * SCALE);
+
+        int hibernating = simulation.get(WildAnimalHibernationSystem.class).getHibernatingCount();
+        assertTrue(hibernating > 0, "the animals far from the player should hibernate");
+        assertEquals(simulation.getEntities().getEntitiesWith(WildAnimalComponent.class).size() + hibernating,
+                simulation.get(WildAnimalsPopulationSystem.class).getTotalPopulation(),
+                "hibernating animals should count towards the population");
+    }
+}
@@ -0,0 +1,267 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.spatial;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the grid against a reference that looks at every point.
+ */
+public class SpatialGridTest {
+    private static final int CELL_SIZE = 16;
+    private static final int TAGS = 3;
+
+    private final SpatialGrid<Integer> grid = new SpatialGrid<>(CELL_SIZE);
+    private final Map<Integer, float[]> reference = new LinkedHashMap<>();
+
+    @Test
+    public void testPutMoveAndRemove() {
+        put(1, 1, 2, 3, 0);
+        put(2, 40, 2, 3, 1);
+        assertEquals(2, grid.size());
+        assertTrue(grid.contains(1));
+
+        // within the cell, to another cell, and with a new tag
+        assertTrue(grid.move(1, 2, 2, 3));
+        assertTrue(grid.move(2, -40, 2, 3));
+        put(2, -41, 2, 3, 2);
+        reference.get(1)[0] = 2;
+        reference.get(2)[0] = -41;
+        assertMatchesReference(new SplittableRandom(1));
+
+        assertTrue(grid.remove(1));
+        reference.remove(1);
+        assertFalse(grid.remove(1));
+        assertFalse(grid.move(1, 0, 0, 0));
+        assertFalse(grid.contains(1));
+        assertEquals(1, grid.size());
+        assertMatchesReference(new SplittableRandom(2));
+    }
+
+    @Test
+    public void testMoveKeepsTheTag() {
+        put(1, 1, 1, 1, 2);
+        grid.move(1, 100, 1, 1);
+        List<Integer> found = new ArrayList<>();
+        grid.forEachWithin(100, 1, 1, 1, 2, found::add);
+        assertEquals(Collections.singletonList(1), found);
+    }
+
+    /**
+     * Removing a point moves the last point of its cell into its slot, which must still be found, moved and removed.
+     */
+    @Test
+    public void testRemoveFixesUpTheSlotOfTheMovedPoint() {
+        for (int i = 0; i < 10; i++) {
+            put(i, i, i, i, 0);
+        }
+        grid.remove(0);
+        reference.remove(0);
+        grid.move(9, 15, 15, 15);
+        reference.get(9)[0] = 15;
+        reference.get(9)[1] = 15;
+        reference.get(9)[2] = 15;
+        assertMatchesReference(new SplittableRandom(3));
+
+        grid.remove(1);
+        reference.remove(1);
+        // moved into the slot of 1, then out of the cell
+        grid.move(8, 100, 0, 0);
+        reference.get(8)[0] = 100;
+        reference.get(8)[1] = 0;
+        reference.get(8)[2] = 0;
+        assertTrue(grid.remove(9));
+        reference.remove(9);
+        assertMatchesReference(new SplittableRandom(4));
+        assertEquals(7, grid.size());
+    }
+
+    /**
+     * Fills the cell table well past its initial capacity, then empties cells in random order, which shifts the
+     * entries following them in their probe sequence back into the gaps.
+     */
+    @Test
+    public void testCellTableGrowsAndShiftsBackOnRemoval() {
+        SplittableRandom random = new SplittableRandom(5);
+        List<Integer> points = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            // one point per cell, so every removal removes a cell
+            put(i, (i % 40) * CELL_SIZE + 1, (i / 40 % 10) * CELL_SIZE + 1, (i / 400) * CELL_SIZE - 30, i % TAGS);
+            points.add(i);
+        }
+        assertMatchesReference(random);
+        assertEachPointIsFound();
+
+        Collections.shuffle(points, new Random(random.nextLong()));
+        for (int i = 0; i < points.size(); i++) {
+            assertTrue(grid.remove(points.get(i)));
+            reference.remove(points.get(i));
+            if (i % 100 == 0) {
+                assertEachPointIsFound();
+            }
+        }
+        assertEquals(0, grid.size());
+        assertMatchesReference(random);
+    }
+
+    @Test
+    public void testRandomOperationsMatchTheReference() {
+        SplittableRandom random = new SplittableRandom(6);
+        for (int step = 0; step < 20_000; step++) {
+            int point = random.nextInt(500);
+            int operation = random.nextInt(10);
+            if (operation < 5) {
+                put(point, coordinate(random), coordinate(random), coordinate(random), random.nextInt(TAGS));
+            } else if (operation < 8) {
+                float[] position = reference.get(point);
+                float x = coordinate(random);
+                float y = coordinate(random);
+                float z = coordinate(random);
+                assertEquals(position != null, grid.move(point, x, y, z));
+                if (position != null) {
+                    position[0] = x;
+                    position[1] = y;
+                    position[2] = z;
+                }
+            } else {
+                assertEquals(reference.remove(point) != null, grid.remove(point));
+            }
+            if (step % 500 == 0) {
+                assertMatchesReference(random);
+            }
+        }
+        assertMatchesReference(random);
+        grid.clear();
+        reference.clear();
+        assertEquals(0, grid.size());
+        assertMatchesReference(random);
+    }
+
+    private void put(int point, float x, float y, float z, int tag) {
+        grid.put(point, x, y, z, tag);
+        reference.put(point, new float[]{x, y, z, tag});
+    }
+
+    /**
+     * Coordinates spanning a few cells on both sides of 0, with fractions.
+     */
+    private static float coordinate(SplittableRandom random) {
+        return (float) (random.nextDouble() * 6 * CELL_SIZE - 3 * CELL_SIZE);
+    }
+
+    private void assertEachPointIsFound() {
+        for (Map.Entry<Integer, float[]> entry : reference.entrySet()) {
+            float[] position = entry.getValue();
+            Set<Integer> found = new HashSet<>();
+            grid.forEachWithin(position[0], position[1], position[2], 0, SpatialGrid.ANY_TAG, found::add);
+            assertTrue(found.contains(entry.getKey()), "point " + entry.getKey() + " should be found");
+        }
+    }
+
+    /**
+     * Runs radius, box and nearest queries around random centers on the grid and on the reference.
+     */
+    private void assertMatchesReference(SplittableRandom random) {
+        assertEquals(reference.size(), grid.size());
+        for (int query = 0; query < 50; query++) {
+            float x = coordinate(random);
+            float y = coordinate(random);
+            float z = coordinate(random);
+            float radius = (float) (random.nextDouble() * 2 * CELL_SIZE);
+            int tag = random.nextInt(TAGS + 1) - 1;
+
+            Set<Integer> within = new HashSet<>();
+            int count = grid.forEachWithin(x, y, z, radius, tag, within::add);
+            assertEquals(count, within.size());
+            assertEquals(referenceWithin(x, y, z, radius, tag), within);
+
+            Set<Integer> withinPositions = new HashSet<>();
+            grid.forEachPositionWithin(x, y, z, radius, tag, (point, pointX, pointY, pointZ) -> {
+                float[] position = reference.get(point);
+                assertEquals(position[0], pointX);
+                assertEquals(position[1], pointY);
+                assertEquals(position[2], pointZ);
+                withinPositions.add(point);
+            });
+            assertEquals(within, withinPositions);
+
+            Set<Integer> inBox = new HashSet<>();
+            grid.forEachInBox(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius, tag,
+                    inBox::add);
+            assertEquals(referenceInBox(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius, tag),
+                    inBox);
+
+            Integer[] nearest = new Integer[1 + random.nextInt(8)];
+            int nearestCount = grid.findNearest(x, y, z, radius, tag, nearest);
+            List<Float> expected = referenceNearestDistances(x, y, z, radius, tag, nearest.length);
+            assertEquals(expected.size(), nearestCount);
+            for (int i = 0; i < nearestCount; i++) {
+                // compared by distance, as points at the same distance may come in either order
+                assertEquals(expected.get(i).floatValue(), distanceSquared(reference.get(nearest[i]), x, y, z));
+            }
+        }
+    }
+
+    private Set<Integer> referenceWithin(float x, float y, float z, float radius, int tag) {
+        Set<Integer> result = new HashSet<>();
+        for (Map.Entry<Integer, float[]> entry : reference.entrySet()) {
+            if (matches(entry.getValue(), tag) && distanceSquared(entry.getValue(), x, y, z) <= radius * radius) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    private Set<Integer> referenceInBox(float minX, float minY, float minZ, float maxX, float maxY, float maxZ,
+                                        int tag) {
+        Set<Integer> result = new HashSet<>();
+        for (Map.Entry<Integer, float[]> entry : reference.entrySet()) {
+            float[] p = entry.getValue();
+            if (matches(p, tag) && p[0] >= minX && p[0] <= maxX && p[1] >= minY && p[1] <= maxY
+                    && p[2] >= minZ && p[2] <= maxZ) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    private List<Float> referenceNearestDistances(float x, float y, float z, float radius, int tag, int k) {
+        List<Float> distances = new ArrayList<>();
+        for (float[] position : reference.values()) {
+            float distance = distanceSquared(position, x, y, z);
+            if (matches(position, tag) && distance <= radius * radius) {
+                distances.add(distance);
+            }
+        }
+        Collections.sort(distances);
+        return distances.subList(0, Math.min(k, distances.size()));
+    }
+
+    private static boolean matches(float[] position, int tag) {
+        return tag == SpatialGrid.ANY_TAG || position[3] == tag;
+    }
+
+    /**
+     * Computed as the grid does, so the distances compare exactly.
+     */
+    private static float distanceSquared(float[] position, float x, float y, float z) {
+        float dx = position[0] - x;
+        float dy = position[1] - y;
+        float dz = position[2] - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
@@ -0,0 +1,77 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.spawn;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the controller against a simulated server whose work per tick grows with the spawn rate.
+ */
+public class SpawnRateControllerTest {
+    private static final float DELTA = 0.05f;
+    private static final float BUDGET_MS = 5;
+    private static final float MIN_SCALE = 0.1f;
+
+    private SpawnRateController controller;
+
+    @BeforeEach
+    public void setUp() {
+        controller = new SpawnRateController();
+        controller.configure(BUDGET_MS, 0, MIN_SCALE, 1);
+    }
+
+    @Test
+    public void testStaysAtFullRateWithinBudget() {
+        run(60, 1, 2);
+
+        assertEquals(1, controller.getScale());
+        assertEquals(0, controller.getDecreases());
+    }
+
+    @Test
+    public void testBacksOffUnderLoadAndSettles() {
+        // 7 ms per tick at full rate, only within budget below about half the rate
+        run(30, 3, 4);
+        float settled = controller.getScale();
+        assertTrue(settled < 1);
+        assertTrue(3 + 4 * settled <= BUDGET_MS, "settled at " + settled + ", still over budget");
+
+        long changes = controller.getDecreases() + controller.getIncreases();
+        run(60, 3, 4);
+        assertEquals(changes, controller.getDecreases() + controller.getIncreases(), "the scale should not oscillate");
+        assertEquals(settled, controller.getScale());
+    }
+
+    @Test
+    public void testRecoversOnceTheLoadIsGone() {
+        run(30, 20, 0);
+        assertEquals(MIN_SCALE, controller.getScale(), 1e-6);
+
+        // raised by one step per second from the minimum, with some seconds to let the smoothed work drop
+        run((1 - MIN_SCALE) / SpawnRateController.INCREASE_STEP + 5, 1, 0);
+        assertEquals(1, controller.getScale());
+    }
+
+    @Test
+    public void testSingleHitchDoesNotCutTheRateForLong() {
+        run(10, 1, 0);
+        controller.update(DELTA, 1000, 0);
+        run(10, 1, 0);
+
+        assertEquals(1, controller.getScale());
+    }
+
+    /**
+     * Simulates ticks whose work consists of a fixed part and a part proportional to the spawn rate.
+     */
+    private void run(float seconds, float fixedWorkMs, float workAtFullRateMs) {
+        int ticks = Math.round(seconds / DELTA);
+        for (int i = 0; i < ticks; i++) {
+            controller.update(DELTA, fixedWorkMs + workAtFullRateMs * controller.getScale(), 0);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.wildAnimals.system;
+
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.wildAnimals.AnimalLodConfig;
+import org.terasology.wildAnimals.AnimalSpawnConfig;
+import org.terasology.wildAnimals.component.WildAnimalComponent;
+import org.terasology.wildAnimals.headless.WildlifeSimulation;
+import org.terasology.wildAnimals.lod.WildAnimalLodSystem;
+import org.terasology.wildAnimals.metrics.WildlifeMetricsSystem;
+import org.terasology.wildAnimals.spawn.SpawnSiteCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WildAnimalsSpawnSystemTest {
+
+    @Test
+    public void testSpawnsDoNotDependOnScanThreads() throws InterruptedException {
+        List<String> singleThreaded = spawn(0);
+        assertFalse(singleThreaded.isEmpty(), "the test world should spawn animals");
+        assertEquals(singleThreaded, spawn(1));
+        assertEquals(singleThreaded, spawn(4));
+    }
+
+    @Test
+    public void testSpeciesCapIsKeyedByPrefab() throws InterruptedException {
+        AnimalSpawnConfig spawnConfig = createConfig(0);
+        spawnConfig.maxAnimalsPerSpecies.put(WildlifeSimulation.DEER, 3);
+        List<String> animals = spawn(spawnConfig);
+        assertFalse(animals.isEmpty(), "the test world should spawn animals");
+        assertTrue(animals.size() <= 3, animals.size() + " deer spawned");
+    }
+
+    @Test
+    public void testSpawnConditionIsChecked() throws InterruptedException {
+        assertTrue(spawn(createConfig(0), (species, below, at, airAbove, worldY) -> false).isEmpty(),
+                "no animal should spawn where the spawn condition allows no site");
+        assertTrue(spawn(createConfig(1), (species, below, at, airAbove, worldY) -> false).isEmpty(),
+                "the spawn condition should be checked on the scan threads as well");
+    }
+
+    @Test
+    public void testSpawnRateBelowOnePerTick() {
+        AnimalSpawnConfig spawnConfig = createConfig(0);
+        spawnConfig.maxSpawnsPerTick = 1;
+        spawnConfig.minSpawnRateScale = 0.25f;
+        spawnConfig.maxSpawnRateScale = 0.25f;
+        WildlifeSimulation simulation = new WildlifeSimulation(new WildlifeSimulation.Settings());
+        simulation.get(WildAnimalsSpawnSystem.class).setConfig(spawnConfig);
+        simulation.start(WildlifeSimulation.Scenario.IDLE);
+        try {
+            int ticks = 40;
+            for (int i = 0; i < ticks; i++) {
+                simulation.tick();
+            }
+            assertTrue(simulation.get(WildAnimalsSpawnSystem.class).getSpawnQueueDepth() > 0,
+                    "the test world should find more flocks than are spawned");
+            long created = simulation.get(WildlifeMetricsSystem.class).counter("spawn.created").getCount();
+            assertTrue(created > 0, "the test world should spawn animals");
+            assertTrue(created <= ticks / 4, created + " animals spawned at a quarter animal per tick");
+        } finally {
+            simulation.stop();
+        }
+    }
+
+    private static List<String> spawn(int scanThreads) throws InterruptedException {
+        return spawn(createConfig(scanThreads));
+    }
+
+    private static List<String> spawn(AnimalSpawnConfig spawnConfig) throws InterruptedException {
+        return spawn(spawnConfig, SpawnSiteCondition.ANY);
+    }
+
+    private static AnimalSpawnConfig createConfig(int scanThreads) {
+        AnimalSpawnConfig spawnConfig = new AnimalSpawnConfig();
+        spawnConfig.spawnChanceInPercent = 50;
+        spawnConfig.spawnScanThreads = scanThreads;
+        // with scan threads, the regional caps are checked at a time that depends on when the scans finish
+        spawnConfig.maxAnimalsPerRegion = 1000;
+        return spawnConfig;
+    }
+
+    /**
+     * Generates the chunks around a player and waits until all flocks found in them have been spawned.
+     *
+     * @return the prefab, position and seed of every animal, in the order they were created
+     */
+    private static List<String> spawn(AnimalSpawnConfig spawnConfig, SpawnSiteCondition condition)
+            throws InterruptedException {
+        WildlifeSimulation simulation = new WildlifeSimulation(new WildlifeSimulation.Settings());
+        simulation.get(WildAnimalsSpawnSystem.class).setConfig(spawnConfig);
+        simulation.get(WildAnimalsSpawnSystem.class).setSpawnCondition(condition);
+        AnimalLodConfig lodConfig = new AnimalLodConfig();
+        lodConfig.hibernateDistance = 0;
+        simulation.get(WildAnimalLodSystem.class).setConfig(lodConfig);
+        simulation.start(WildlifeSimulation.Scenario.IDLE);
+        try {
+            WildAnimalsSpawnSystem spawnSystem = simulation.get(WildAnimalsSpawnSystem.class);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            do {
+                simulation.tick();
+                if (spawnSystem.getPendingScanCount() > 0) {
+                    Thread.sleep(1);
+                }
+            } while ((spawnSystem.getPendingScanCount() > 0 || spawnSystem.getSpawnQueueDepth() > 0)
+                    && System.nanoTime() < deadline);
+            assertEquals(0, spawnSystem.getSpawnQueueDepth());
+
+            List<String> animals = new ArrayList<>();
+            Vector3f position = new Vector3f();
+            for (EntityRef animal : simulation.getEntities().getEntitiesWith(WildAnimalComponent.class)) {
+                animal.getComponent(LocationComponent.class).getWorldPosition(position);
+                animals.add(animal.getParentPrefab().getUrn() + " " + position + " "
+                        + animal.getComponent(WildAnimalComponent.class).seed);
+            }
+            return animals;
+        } finally {
+            simulation.stop();
+        }
+    }
+}